@@ -0,0 +1,38 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.dto.AuthResponse;
+import com.example.demo.dto.LoginRequest;
+import com.example.demo.service.AuthService;
+
+/** End-to-end login: user lookup, BCrypt verification on the hashing pool and token issue. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AuthBenchmark {
+
+    private AuthService authService;
+    private LoginRequest login;
+
+    @Setup
+    public void setup(InsuranceAppState app) {
+        authService = app.bean(AuthService.class);
+        login = new LoginRequest();
+        login.setEmail(InsuranceAppState.USER_EMAIL);
+        login.setPassword(InsuranceAppState.USER_PASSWORD);
+    }
+
+    @Benchmark
+    public AuthResponse login() {
+        return authService.login(login);
+    }
+}
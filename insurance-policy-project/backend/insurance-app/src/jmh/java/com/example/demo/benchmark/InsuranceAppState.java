@@ -0,0 +1,136 @@
+package com.example.demo.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.InsuranceAppApplication;
+import com.example.demo.dto.SignupRequest;
+import com.example.demo.entity.Claim;
+import com.example.demo.entity.Customer;
+import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.entity.Payment;
+import com.example.demo.entity.Policy;
+import com.example.demo.repository.ClaimRepository;
+import com.example.demo.repository.CustomerPolicyRepository;
+import com.example.demo.repository.CustomerRepository;
+import com.example.demo.repository.PaymentRepository;
+import com.example.demo.repository.PolicyRepository;
+import com.example.demo.service.AuthService;
+
+/**
+ * Boots the application once per benchmark run against the in-memory H2 database of the
+ * {@code test} profile and seeds a fixed data set, so service benchmarks measure the real
+ * repository, Hibernate and cache paths.
+ */
+@State(Scope.Benchmark)
+public class InsuranceAppState {
+
+    static final int CUSTOMERS = 200;
+    static final int POLICIES = 20;
+    static final int CLAIMS_PER_ASSIGNMENT = 3;
+    static final int PAYMENTS_PER_ASSIGNMENT = 4;
+    static final String USER_EMAIL = "bench@example.com";
+    static final String USER_PASSWORD = "bench-password";
+
+    ConfigurableApplicationContext context;
+    int sampleCustomerPolicyId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = SpringApplication.run(InsuranceAppApplication.class,
+                "--spring.profiles.active=test", "--server.port=0", "--logging.level.root=WARN",
+                "--spring.jpa.properties.hibernate.generate_statistics=false");
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed() {
+        List<Policy> policies = new ArrayList<>();
+        for (int i = 0; i < POLICIES; i++) {
+            Policy p = new Policy();
+            p.setPolicyName("Policy " + i);
+            p.setPolicyType(i % 2 == 0 ? "HEALTH" : "LIFE");
+            p.setPremiumAmount(1_000 + i * 10);
+            p.setDurationMonths(12);
+            p.setCoverageAmount(100_000);
+            policies.add(p);
+        }
+        policies = bean(PolicyRepository.class).saveAll(policies);
+
+        List<Customer> customers = new ArrayList<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            Customer c = new Customer();
+            c.setFirstName("First" + i);
+            c.setLastName("Last" + i);
+            c.setEmail("customer" + i + "@example.com");
+            c.setPhone("90000" + String.format("%05d", i));
+            c.setAddress("Street " + i);
+            customers.add(c);
+        }
+        customers = bean(CustomerRepository.class).saveAll(customers);
+
+        List<CustomerPolicy> assignments = new ArrayList<>();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            CustomerPolicy cp = new CustomerPolicy();
+            cp.setCustomer(customers.get(i));
+            cp.setPolicy(policies.get(i % POLICIES));
+            cp.setStartDate(LocalDate.of(2026, 1, 1));
+            cp.setEndDate(LocalDate.of(2027, 1, 1));
+            cp.setStatus("ACTIVE");
+            cp.setPremiumAmount(policies.get(i % POLICIES).getPremiumAmount());
+            assignments.add(cp);
+        }
+        assignments = bean(CustomerPolicyRepository.class).saveAll(assignments);
+        sampleCustomerPolicyId = assignments.get(CUSTOMERS / 2).getId();
+
+        List<Claim> claims = new ArrayList<>();
+        List<Payment> payments = new ArrayList<>();
+        for (CustomerPolicy cp : assignments) {
+            for (int i = 0; i < CLAIMS_PER_ASSIGNMENT; i++) {
+                Claim c = new Claim();
+                c.setCustomerPolicy(cp);
+                c.setClaimAmount(500 + i);
+                c.setClaimDate(LocalDate.of(2026, 3, 1 + i));
+                c.setClaimStatus("PENDING");
+                c.setDescription("Claim " + i);
+                claims.add(c);
+            }
+            for (int i = 0; i < PAYMENTS_PER_ASSIGNMENT; i++) {
+                Payment p = new Payment();
+                p.setCustomerPolicy(cp);
+                p.setAmount(cp.getPremiumAmount());
+                p.setPaymentDate(LocalDate.of(2026, 1 + i, 1));
+                p.setPaymentMode("UPI");
+                p.setPaymentStatus("PAID");
+                payments.add(p);
+            }
+        }
+        bean(ClaimRepository.class).saveAll(claims);
+        bean(PaymentRepository.class).saveAll(payments);
+
+        SignupRequest signup = new SignupRequest();
+        signup.setFirstName("Bench");
+        signup.setLastName("User");
+        signup.setEmail(USER_EMAIL);
+        signup.setPassword(USER_PASSWORD);
+        signup.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        bean(AuthService.class).signup(signup);
+    }
+}
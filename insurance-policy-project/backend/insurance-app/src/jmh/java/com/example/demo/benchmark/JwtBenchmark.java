@@ -0,0 +1,52 @@
+package com.example.demo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.security.JwtUtil;
+import com.example.demo.security.VerifiedToken;
+
+/**
+ * Token signing and verification. {@code parseCached} is the steady-state request path;
+ * {@code parseUncached} is a first-seen token with the verified-token cache disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "MySuperSecretKeyForJwtDontUseShortKey1234567890";
+
+    private JwtUtil cached;
+    private JwtUtil uncached;
+    private String token;
+
+    @Setup
+    public void setup() {
+        cached = new JwtUtil(SECRET, 86_400_000L, 10_000);
+        uncached = new JwtUtil(SECRET, 86_400_000L, 0);
+        token = cached.generateToken("bench@example.com", "USER");
+    }
+
+    @Benchmark
+    public String generate() {
+        return cached.generateToken("bench@example.com", "USER");
+    }
+
+    @Benchmark
+    public VerifiedToken parseCached() {
+        return cached.parse(token);
+    }
+
+    @Benchmark
+    public VerifiedToken parseUncached() {
+        return uncached.parse(token);
+    }
+}
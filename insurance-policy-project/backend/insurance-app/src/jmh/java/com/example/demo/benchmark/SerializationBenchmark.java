@@ -0,0 +1,112 @@
+package com.example.demo.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.dto.ClaimResponse;
+import com.example.demo.dto.CustomerPolicyResponse;
+import com.example.demo.dto.PaymentResponse;
+import com.example.demo.entity.Claim;
+import com.example.demo.entity.Customer;
+import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.entity.Payment;
+import com.example.demo.entity.Policy;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/** JSON encoding of 100-row claim, payment and assignment lists as the controllers return them. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    private static final int ROWS = 100;
+
+    private JsonMapper mapper;
+    private List<ClaimResponse> claims;
+    private List<PaymentResponse> payments;
+    private List<CustomerPolicyResponse> assignments;
+
+    @Setup
+    public void setup() {
+        mapper = JsonMapper.builder().build();
+        claims = new ArrayList<>(ROWS);
+        payments = new ArrayList<>(ROWS);
+        assignments = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            CustomerPolicy cp = assignment(i);
+            assignments.add(CustomerPolicyResponse.from(cp));
+
+            Claim c = new Claim();
+            c.setId(i + 1);
+            c.setCustomerPolicy(cp);
+            c.setClaimAmount(500 + i);
+            c.setClaimDate(LocalDate.of(2026, 3, 1));
+            c.setClaimStatus("PENDING");
+            c.setDescription("Windscreen damage " + i);
+            claims.add(ClaimResponse.from(c));
+
+            Payment p = new Payment();
+            p.setId(i + 1);
+            p.setCustomerPolicy(cp);
+            p.setAmount(1_200);
+            p.setPaymentDate(LocalDate.of(2026, 2, 1));
+            p.setPaymentMode("UPI");
+            p.setPaymentStatus("PAID");
+            payments.add(PaymentResponse.from(p));
+        }
+    }
+
+    @Benchmark
+    public byte[] claims() {
+        return mapper.writeValueAsBytes(claims);
+    }
+
+    @Benchmark
+    public byte[] payments() {
+        return mapper.writeValueAsBytes(payments);
+    }
+
+    @Benchmark
+    public byte[] assignments() {
+        return mapper.writeValueAsBytes(assignments);
+    }
+
+    private static CustomerPolicy assignment(int i) {
+        Customer customer = new Customer();
+        customer.setId(i + 1);
+        customer.setFirstName("First" + i);
+        customer.setLastName("Last" + i);
+        customer.setEmail("customer" + i + "@example.com");
+        customer.setPhone("9000000000");
+        customer.setAddress("Street " + i);
+
+        Policy policy = new Policy();
+        policy.setId(i % 10 + 1);
+        policy.setPolicyName("Motor Secure");
+        policy.setPolicyType("MOTOR");
+        policy.setPremiumAmount(1_200);
+        policy.setDurationMonths(12);
+        policy.setCoverageAmount(300_000);
+
+        CustomerPolicy cp = new CustomerPolicy();
+        cp.setId(i + 1);
+        cp.setCustomer(customer);
+        cp.setPolicy(policy);
+        cp.setStartDate(LocalDate.of(2026, 1, 1));
+        cp.setEndDate(LocalDate.of(2027, 1, 1));
+        cp.setStatus("ACTIVE");
+        cp.setPremiumAmount(1_200);
+        return cp;
+    }
+}
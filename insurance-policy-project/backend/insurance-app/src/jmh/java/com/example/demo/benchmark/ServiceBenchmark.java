@@ -0,0 +1,79 @@
+package com.example.demo.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.dto.ClaimResponse;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.CustomerPolicyResponse;
+import com.example.demo.dto.PaymentResponse;
+import com.example.demo.entity.Policy;
+import com.example.demo.service.ClaimService;
+import com.example.demo.service.CustomerPolicyService;
+import com.example.demo.service.PaymentService;
+import com.example.demo.service.PolicyService;
+
+/** Service list and filter paths over the seeded H2 data set. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ServiceBenchmark {
+
+    private ClaimService claimService;
+    private PaymentService paymentService;
+    private CustomerPolicyService customerPolicyService;
+    private PolicyService policyService;
+    private int customerPolicyId;
+
+    @Setup
+    public void setup(InsuranceAppState app) {
+        claimService = app.bean(ClaimService.class);
+        paymentService = app.bean(PaymentService.class);
+        customerPolicyService = app.bean(CustomerPolicyService.class);
+        policyService = app.bean(PolicyService.class);
+        customerPolicyId = app.sampleCustomerPolicyId;
+    }
+
+    @Benchmark
+    public List<ClaimResponse> allClaims() {
+        return claimService.getAllClaims();
+    }
+
+    @Benchmark
+    public CursorPage<ClaimResponse> claimsFirstPage() {
+        return claimService.getClaimsPage(0, CursorPage.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    public List<ClaimResponse> claimsByCustomerPolicy() {
+        return claimService.getClaimsByCustomerPolicyId(customerPolicyId);
+    }
+
+    @Benchmark
+    public List<PaymentResponse> allPayments() {
+        return paymentService.getAllPayments();
+    }
+
+    @Benchmark
+    public List<PaymentResponse> paymentsByCustomerPolicy() {
+        return paymentService.getPaymentsByCustomerPolicyId(customerPolicyId);
+    }
+
+    @Benchmark
+    public List<CustomerPolicyResponse> allAssignments() {
+        return customerPolicyService.getAllAssignments();
+    }
+
+    @Benchmark
+    public List<Policy> allPoliciesCached() {
+        return policyService.getAllPolicies();
+    }
+}
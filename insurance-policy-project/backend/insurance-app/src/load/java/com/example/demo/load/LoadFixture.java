@@ -0,0 +1,162 @@
+package com.example.demo.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Test data and credentials for a run. Seeds through the public API so the same harness works
+ * against an in-process app or a deployed one ({@code --customers=0} skips seeding).
+ */
+final class LoadFixture {
+
+    private static final int POLICIES = 20;
+    private static final int CLAIMS_PER_ASSIGNMENT = 3;
+    private static final int PAYMENTS_PER_ASSIGNMENT = 4;
+
+    final String token;
+    final String loginBody;
+    private final int[] customerPolicyIds;
+
+    private LoadFixture(String token, String loginBody, int[] customerPolicyIds) {
+        this.token = token;
+        this.loginBody = loginBody;
+        this.customerPolicyIds = customerPolicyIds;
+    }
+
+    int randomCustomerPolicyId() {
+        return customerPolicyIds[ThreadLocalRandom.current().nextInt(customerPolicyIds.length)];
+    }
+
+    static LoadFixture seed(HttpClient http, JsonMapper json, String baseUrl, LoadTest.LoadConfig config)
+            throws IOException, InterruptedException {
+        ObjectNode signup = json.createObjectNode()
+                .put("firstName", "Load")
+                .put("lastName", "Test")
+                .put("email", config.email)
+                .put("password", config.password)
+                .put("phone", "9000000000")
+                .put("dateOfBirth", "1990-01-01")
+                .put("address", "Load test");
+        // 409 when the user already exists from an earlier run against the same server
+        send(http, post(baseUrl + "/api/auth/signup", null, signup.toString()), 200, 409);
+
+        String loginBody = json.createObjectNode()
+                .put("email", config.email)
+                .put("password", config.password)
+                .toString();
+        String token = json.readTree(send(http, post(baseUrl + "/api/auth/login", null, loginBody), 200))
+                .get("token").asString();
+
+        if (config.customers > 0) {
+            System.out.printf("Seeding %d customers, %d policies and their claims and payments%n", config.customers, POLICIES);
+            seedData(http, json, baseUrl, token, config.customers);
+        }
+
+        JsonNode page = json.readTree(send(http, get(baseUrl + "/customer-policies/page?size=500", token), 200));
+        List<Integer> ids = new ArrayList<>();
+        for (JsonNode item : page.get("items")) {
+            ids.add(item.get("id").asInt());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No customer policies to drive traffic against; seed with --customers=N");
+        }
+        return new LoadFixture(token, loginBody, ids.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static void seedData(HttpClient http, JsonMapper json, String baseUrl, String token, int customers)
+            throws IOException, InterruptedException {
+        int[] policyIds = new int[POLICIES];
+        for (int i = 0; i < POLICIES; i++) {
+            ObjectNode policy = json.createObjectNode()
+                    .put("policyName", "Load Policy " + i)
+                    .put("policyType", i % 2 == 0 ? "HEALTH" : "MOTOR")
+                    .put("premiumAmount", 1_000 + i * 50)
+                    .put("durationMonths", 12)
+                    .put("coverageAmount", 250_000);
+            policyIds[i] = json.readTree(send(http, post(baseUrl + "/policies", token, policy.toString()), 200))
+                    .get("id").asInt();
+        }
+
+        ArrayNode claims = json.createArrayNode();
+        StringBuilder payments = new StringBuilder();
+        for (int i = 0; i < customers; i++) {
+            ObjectNode customer = json.createObjectNode()
+                    .put("firstName", "Load" + i)
+                    .put("lastName", "Customer")
+                    .put("email", "load" + i + "-" + System.nanoTime() + "@example.com")
+                    .put("phone", String.format("9%09d", i))
+                    .put("address", "Street " + i);
+            int customerId = json.readTree(send(http, post(baseUrl + "/customers", token, customer.toString()), 200))
+                    .get("id").asInt();
+
+            ObjectNode assign = json.createObjectNode()
+                    .put("customerId", customerId)
+                    .put("policyId", policyIds[i % POLICIES])
+                    .put("startDate", "2026-01-01")
+                    .put("endDate", "2027-01-01")
+                    .put("status", "ACTIVE")
+                    .put("premiumAmount", 1_000 + (i % POLICIES) * 50);
+            int cpId = json.readTree(send(http, post(baseUrl + "/customer-policies/assign", token, assign.toString()), 200))
+                    .get("id").asInt();
+
+            for (int c = 0; c < CLAIMS_PER_ASSIGNMENT; c++) {
+                claims.addObject()
+                        .put("customerPolicyId", cpId)
+                        .put("claimAmount", 500 + c * 100)
+                        .put("claimDate", "2026-03-0" + (c + 1))
+                        .put("claimStatus", c == 0 ? "APPROVED" : "PENDING")
+                        .put("description", "Load claim " + c);
+            }
+            for (int p = 0; p < PAYMENTS_PER_ASSIGNMENT; p++) {
+                payments.append(cpId).append(',').append(1_000 + (i % POLICIES) * 50)
+                        .append(",2026-0").append(p + 1).append("-01,UPI,PAID\n");
+            }
+        }
+        send(http, post(baseUrl + "/claims/batch", token, claims.toString()), 200);
+        send(http, HttpRequest.newBuilder(URI.create(baseUrl + "/payments/import?source=loadtest"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString(payments.toString()))
+                .build(), 200);
+    }
+
+    private static String send(HttpClient http, HttpRequest request, int... expected)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        for (int code : expected) {
+            if (response.statusCode() == code) {
+                return response.body();
+            }
+        }
+        throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                + response.statusCode() + ": " + response.body());
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(String url, String token, String json) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            b.header("Authorization", "Bearer " + token);
+        }
+        return b.build();
+    }
+}
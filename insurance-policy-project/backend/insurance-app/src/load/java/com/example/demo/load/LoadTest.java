@@ -0,0 +1,230 @@
+package com.example.demo.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.demo.InsuranceAppApplication;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Drives a weighted mix of API traffic at the application and writes a latency report.
+ *
+ * <pre>
+ * mvn -P load test-compile exec:exec -Dload.args="--threads=32 --duration=60"
+ * </pre>
+ *
+ * Without {@code --baseUrl} the application is booted in-process on the {@code test}
+ * profile (in-memory H2) and seeded through the REST API, so runs are repeatable.
+ * With {@code --rate} each worker is paced against a fixed schedule and latency is
+ * measured from the intended send time, so a stalled server is not hidden by fewer
+ * requests being sent (coordinated omission). Reports land in
+ * {@code target/load-reports/<timestamp>/}.
+ */
+public class LoadTest {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.parse(args);
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.baseUrl;
+        if (baseUrl == null) {
+            context = SpringApplication.run(InsuranceAppApplication.class,
+                    "--spring.profiles.active=test", "--server.port=0", "--logging.level.root=WARN",
+                    "--spring.jpa.properties.hibernate.generate_statistics=false");
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(4);
+        try {
+            HttpClient http = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(httpExecutor)
+                    .build();
+            LoadFixture fixture = LoadFixture.seed(http, JSON, baseUrl, config);
+            List<Scenario> mix = Scenario.defaultMix(baseUrl, fixture);
+
+            System.out.printf("Warming up for %ds with %d threads against %s%n", config.warmupSeconds, config.threads, baseUrl);
+            run(http, mix, config, config.warmupSeconds);
+            mix.forEach(Scenario::reset);
+
+            System.out.printf("Measuring for %ds%n", config.durationSeconds);
+            long startNanos = System.nanoTime();
+            run(http, mix, config, config.durationSeconds);
+            double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+            Path dir = writeReport(mix, config, baseUrl, elapsedSeconds);
+            System.out.println("Report written to " + dir.toAbsolutePath());
+        } finally {
+            httpExecutor.shutdownNow();
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static void run(HttpClient http, List<Scenario> mix, LoadConfig config, int seconds) throws InterruptedException {
+        if (seconds <= 0) return;
+        int totalWeight = mix.stream().mapToInt(s -> s.weight).sum();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long intervalNanos = config.ratePerSecond > 0
+                ? (long) (1e9 * config.threads / config.ratePerSecond)
+                : 0;
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.threads);
+        for (int t = 0; t < config.threads; t++) {
+            workers.execute(() -> {
+                long intended = System.nanoTime();
+                while (System.nanoTime() < deadline) {
+                    if (intervalNanos > 0) {
+                        intended += intervalNanos;
+                        long wait = intended - System.nanoTime();
+                        if (wait > 0) {
+                            sleepNanos(wait);
+                        }
+                    } else {
+                        intended = System.nanoTime();
+                    }
+                    pick(mix, totalWeight).execute(http, intended);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+    }
+
+    private static Scenario pick(List<Scenario> mix, int totalWeight) {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Scenario s : mix) {
+            r -= s.weight;
+            if (r < 0) return s;
+        }
+        return mix.get(mix.size() - 1);
+    }
+
+    private static void sleepNanos(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Path writeReport(List<Scenario> mix, LoadConfig config, String baseUrl, double elapsedSeconds)
+            throws IOException {
+        Path dir = Path.of("target", "load-reports",
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(dir);
+
+        Scenario total = Scenario.total(mix);
+        ObjectNode report = JSON.createObjectNode();
+        report.put("recordedAt", LocalDateTime.now().toString());
+        report.put("baseUrl", baseUrl);
+        report.set("config", JSON.valueToTree(config.asMap()));
+        report.put("elapsedSeconds", round(elapsedSeconds));
+        ObjectNode endpoints = report.putObject("endpoints");
+        for (Scenario s : mix) {
+            endpoints.set(s.name, s.summary(elapsedSeconds));
+        }
+        report.set("total", total.summary(elapsedSeconds));
+        JSON.writerWithDefaultPrettyPrinter().writeValue(dir.resolve("summary.json").toFile(), report);
+
+        try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve("summary.txt")))) {
+            printTable(out, mix, total, elapsedSeconds);
+        }
+        printTable(System.out, mix, total, elapsedSeconds);
+
+        List<Scenario> all = new ArrayList<>(mix);
+        all.add(total);
+        for (Scenario s : all) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(s.name + ".hgrm")))) {
+                s.histogram.outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+        return dir;
+    }
+
+    private static void printTable(PrintStream out, List<Scenario> mix, Scenario total, double elapsedSeconds) {
+        out.printf("%-28s %9s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        List<Scenario> rows = new ArrayList<>(mix);
+        rows.add(total);
+        for (Scenario s : rows) {
+            JsonNode r = s.summary(elapsedSeconds);
+            out.printf("%-28s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n", s.name,
+                    r.get("requests").asLong(), r.get("errors").asLong(), r.get("throughput").asDouble(),
+                    r.get("p50Ms").asDouble(), r.get("p99Ms").asDouble(), r.get("p999Ms").asDouble(),
+                    r.get("maxMs").asDouble());
+        }
+    }
+
+    static double round(double v) {
+        return Math.round(v * 100) / 100.0;
+    }
+
+    /** Command-line options, {@code --name=value}. */
+    static final class LoadConfig {
+
+        String baseUrl;
+        int threads = 16;
+        int durationSeconds = 30;
+        int warmupSeconds = 10;
+        int ratePerSecond;
+        int customers = 200;
+        String email = "loadtest@example.com";
+        String password = "loadtest-password";
+
+        static LoadConfig parse(String[] args) {
+            LoadConfig c = new LoadConfig();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value but got " + arg);
+                }
+                String name = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+                switch (name) {
+                    case "baseUrl" -> c.baseUrl = value;
+                    case "threads" -> c.threads = Integer.parseInt(value);
+                    case "duration" -> c.durationSeconds = Integer.parseInt(value);
+                    case "warmup" -> c.warmupSeconds = Integer.parseInt(value);
+                    case "rate" -> c.ratePerSecond = Integer.parseInt(value);
+                    case "customers" -> c.customers = Integer.parseInt(value);
+                    case "email" -> c.email = value;
+                    case "password" -> c.password = value;
+                    default -> throw new IllegalArgumentException("Unknown option --" + name);
+                }
+            }
+            return c;
+        }
+
+        Map<String, Object> asMap() {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("threads", threads);
+            m.put("durationSeconds", durationSeconds);
+            m.put("warmupSeconds", warmupSeconds);
+            m.put("ratePerSecond", ratePerSecond);
+            m.put("customers", customers);
+            return m;
+        }
+    }
+}
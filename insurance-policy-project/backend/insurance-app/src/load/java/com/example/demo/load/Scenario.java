@@ -0,0 +1,138 @@
+package com.example.demo.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/** One weighted entry in the traffic mix, with its own latency histogram (microseconds). */
+final class Scenario {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    final String name;
+    final int weight;
+    final Histogram histogram;
+    private final Supplier<HttpRequest> request;
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    private Scenario(String name, int weight, Histogram histogram, Supplier<HttpRequest> request) {
+        this.name = name;
+        this.weight = weight;
+        this.histogram = histogram;
+        this.request = request;
+    }
+
+    Scenario(String name, int weight, Supplier<HttpRequest> request) {
+        this(name, weight, new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3), request);
+    }
+
+    /**
+     * Read-heavy mix modelled on the SPA: list and page views dominate, with per-policy
+     * drill-downs and a trickle of logins (which exercise BCrypt).
+     */
+    static List<Scenario> defaultMix(String baseUrl, LoadFixture fixture) {
+        return List.of(
+                new Scenario("login", 5, () -> post(baseUrl + "/api/auth/login", fixture.loginBody)),
+                new Scenario("claims", 5, () -> get(baseUrl + "/claims", fixture)),
+                new Scenario("claims.page", 15, () -> get(baseUrl + "/claims/page?size=50", fixture)),
+                new Scenario("claims.byCustomerPolicy", 15,
+                        () -> get(baseUrl + "/claims/by-customer-policy/" + fixture.randomCustomerPolicyId(), fixture)),
+                new Scenario("payments", 5, () -> get(baseUrl + "/payments", fixture)),
+                new Scenario("payments.page", 15, () -> get(baseUrl + "/payments/page?size=50", fixture)),
+                new Scenario("payments.byCustomerPolicy", 15,
+                        () -> get(baseUrl + "/payments/by-customer-policy/" + fixture.randomCustomerPolicyId(), fixture)),
+                new Scenario("customerPolicies.page", 15, () -> get(baseUrl + "/customer-policies/page?size=50", fixture)),
+                new Scenario("customerPolicies.byId", 10,
+                        () -> get(baseUrl + "/customer-policies/" + fixture.randomCustomerPolicyId(), fixture)));
+    }
+
+    /** Aggregate of every scenario, for the report's total row. */
+    static Scenario total(List<Scenario> mix) {
+        Histogram all = new Histogram(MAX_TRACKABLE_MICROS, 3);
+        Scenario total = new Scenario("total", 0, all, null);
+        for (Scenario s : mix) {
+            all.add(s.histogram);
+            total.errors.add(s.errors.sum());
+            s.statuses.forEach((code, n) -> total.statuses.computeIfAbsent(code, k -> new LongAdder()).add(n.sum()));
+        }
+        return total;
+    }
+
+    void execute(HttpClient http, long intendedStartNanos) {
+        int status;
+        try {
+            status = http.send(request.get(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStartNanos);
+        histogram.recordValue(Math.min(micros, MAX_TRACKABLE_MICROS));
+        statuses.computeIfAbsent(status, k -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            errors.increment();
+        }
+    }
+
+    void reset() {
+        histogram.reset();
+        errors.reset();
+        statuses.clear();
+    }
+
+    ObjectNode summary(double elapsedSeconds) {
+        ObjectNode node = JSON.createObjectNode();
+        long requests = histogram.getTotalCount();
+        node.put("requests", requests);
+        node.put("errors", errors.sum());
+        node.put("throughput", LoadTest.round(requests / elapsedSeconds));
+        node.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+        node.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+        node.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+        node.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+        node.put("maxMs", millis(histogram.getMaxValue()));
+        ObjectNode codes = node.putObject("statuses");
+        statuses.forEach((code, n) -> codes.put(String.valueOf(code), n.sum()));
+        return node;
+    }
+
+    private static double millis(long micros) {
+        return LoadTest.round(micros / 1_000.0);
+    }
+
+    private static HttpRequest get(String url, LoadFixture fixture) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + fixture.token)
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
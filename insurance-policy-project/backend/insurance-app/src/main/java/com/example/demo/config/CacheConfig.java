@@ -0,0 +1,18 @@
+package com.example.demo.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's cache abstraction. Cache names, size and TTL are declared in
+ * application.properties ({@code spring.cache.*}) so they are created at startup
+ * and picked up by the cache metrics binder.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String POLICIES = "policies";
+    public static final String POLICY_BY_ID = "policyById";
+    public static final String IDEMPOTENCY_KEYS = "idempotencyKeys";
+}
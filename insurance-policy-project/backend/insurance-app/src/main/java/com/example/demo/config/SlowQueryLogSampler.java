@@ -0,0 +1,50 @@
+package com.example.demo.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Caps Hibernate's slow-query log ({@code org.hibernate.SQL_SLOW}) at {@code maxPerSecond}
+ * lines, so a database-wide slowdown yields a sample of slow statements rather than a
+ * log line per query. Dropped lines are counted and reported with the next one let through.
+ */
+public class SlowQueryLogSampler extends TurboFilter {
+
+    static final String SLOW_QUERY_LOGGER = "org.hibernate.SQL_SLOW";
+
+    private int maxPerSecond = 5;
+    private final AtomicLong window = new AtomicLong();
+    private final AtomicLong inWindow = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || !SLOW_QUERY_LOGGER.equals(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        long second = System.currentTimeMillis() / 1000;
+        long current = window.get();
+        if (current != second && window.compareAndSet(current, second)) {
+            inWindow.set(0);
+        }
+        if (inWindow.incrementAndGet() > maxPerSecond) {
+            dropped.incrementAndGet();
+            return FilterReply.DENY;
+        }
+        long skipped = dropped.getAndSet(0);
+        if (skipped > 0) {
+            logger.info("{} further slow queries were not logged (limit {}/s)", skipped, maxPerSecond);
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -6,8 +6,6 @@ import org.springframework.web.bind.annotation.*;
 import com.example.demo.dto.AuthResponse;
 import com.example.demo.dto.LoginRequest;
 import com.example.demo.dto.SignupRequest;
-import com.example.demo.entity.AppUser;
-import com.example.demo.repository.UserRepository;
 import com.example.demo.service.AuthService;
 
 import jakarta.validation.Valid;
@@ -17,11 +15,9 @@ import jakarta.validation.Valid;
 public class AuthController {
 
     private final AuthService authService;
-    private final UserRepository userRepo;
 
-    public AuthController(AuthService authService, UserRepository userRepo) {
+    public AuthController(AuthService authService) {
         this.authService = authService;
-        this.userRepo = userRepo;
     }
 
     @PostMapping("/signup")
@@ -32,11 +28,7 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest req) {
-        String token = authService.login(req);
-
-        AppUser user = userRepo.findByEmail(req.getEmail()).orElseThrow();
-
-        return ResponseEntity.ok(new AuthResponse(token, user.getEmail(), user.getRole(), user.getName()));
+        return ResponseEntity.ok(authService.login(req));
     }
 }
 
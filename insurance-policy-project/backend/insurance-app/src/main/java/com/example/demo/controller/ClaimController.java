@@ -2,11 +2,20 @@ package com.example.demo.controller;
 
 import java.util.List;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.demo.dto.AggregateReport;
+import com.example.demo.dto.ClaimBatchResult;
 import com.example.demo.dto.ClaimRequest;
-import com.example.demo.entity.Claim;
+import com.example.demo.dto.ClaimResponse;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.service.ClaimService;
+import com.example.demo.service.IdempotentRequests;
+
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequestMapping("/claims")
@@ -14,23 +23,60 @@ import com.example.demo.service.ClaimService;
 public class ClaimController {
 
     private final ClaimService service;
+    private final IdempotentRequests idempotentRequests;
+    private final JsonMapper jsonMapper;
 
-    public ClaimController(ClaimService service) {
+    public ClaimController(ClaimService service, IdempotentRequests idempotentRequests, JsonMapper jsonMapper) {
         this.service = service;
+        this.idempotentRequests = idempotentRequests;
+        this.jsonMapper = jsonMapper;
     }
 
+    // with an Idempotency-Key, a retried claim returns the original response instead of being raised twice
     @PostMapping
-    public Claim raise(@RequestBody ClaimRequest request) {
-        return service.raiseClaim(request);
+    public ResponseEntity<?> raise(@RequestBody ClaimRequest request,
+                                   @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(service.raiseClaim(request));
+        }
+        return idempotentRequests.execute("POST /claims", idempotencyKey, request, () -> service.raiseClaim(request));
+    }
+
+    // Bulk intake for partner files: per-row results, rows that fail validation do not block the rest
+    @PostMapping("/batch")
+    public List<ClaimBatchResult> raiseBatch(@RequestBody List<ClaimRequest> requests) {
+        return service.raiseClaims(requests);
+    }
+
+    // Migrated, already-decided claims (ADMIN only, see SecurityConfig); statuses are stored as sent
+    @PostMapping("/history")
+    public List<ClaimBatchResult> importHistory(@RequestBody List<ClaimRequest> requests) {
+        return service.importClaimHistory(requests);
     }
 
     @GetMapping
-    public List<Claim> all() {
-        return service.getAllClaims();
+    public ResponseEntity<List<ClaimResponse>> all(WebRequest request) {
+        return ConditionalResponses.unlessNotModified(request, service.getClaimsVersion(), service::getAllClaims);
+    }
+
+    @GetMapping("/page")
+    public CursorPage<ClaimResponse> page(@RequestParam(defaultValue = "0") int after,
+                                          @RequestParam(defaultValue = "50") int size) {
+        return service.getClaimsPage(after, size);
+    }
+
+    @GetMapping("/stats")
+    public AggregateReport stats() {
+        return service.getClaimStats();
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdjsonResponses.stream(jsonMapper, service::streamAllClaims);
     }
 
     @GetMapping("/by-customer-policy/{id}")
-    public List<Claim> byCustomerPolicy(@PathVariable int id) {
+    public List<ClaimResponse> byCustomerPolicy(@PathVariable int id) {
         return service.getClaimsByCustomerPolicyId(id);
     }
 }
@@ -0,0 +1,31 @@
+package com.example.demo.controller;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET for whole-collection endpoints. The ETag is built from the change
+ * counters of every table the response shows, checked before any rows are loaded, so
+ * an unchanged collection answers 304 without querying rows or serialising JSON.
+ * The tag is weak: Tomcat will not gzip a response carrying a strong ETag, and the
+ * same JSON sent plain or gzipped is equivalent but not byte-identical.
+ */
+final class ConditionalResponses {
+
+    // let the browser keep the body but revalidate it on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalResponses() {}
+
+    static <T> ResponseEntity<T> unlessNotModified(WebRequest request, String version, Supplier<T> body) {
+        String etag = "W/\"" + version + "\"";
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+}
@@ -1,19 +1,28 @@
 package com.example.demo.controller;
 
 import java.util.List;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.CustomerOverview;
 import com.example.demo.entity.Customer;
 import com.example.demo.service.CustomerService;
 
+import tools.jackson.databind.json.JsonMapper;
+
 @RestController
 @RequestMapping("/customers")
 @CrossOrigin(origins = "*")
 public class CustomerController {
 
     private final CustomerService service;
+    private final JsonMapper jsonMapper;
 
-    public CustomerController(CustomerService service) {
+    public CustomerController(CustomerService service, JsonMapper jsonMapper) {
         this.service = service;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping
@@ -22,8 +31,30 @@ public class CustomerController {
     }
 
     @GetMapping
-    public List<Customer> getAll() {
-        return service.getAllCustomers();
+    public ResponseEntity<List<Customer>> getAll(WebRequest request) {
+        return ConditionalResponses.unlessNotModified(request, service.getCustomersVersion(), service::getAllCustomers);
+    }
+
+    @GetMapping("/page")
+    public CursorPage<Customer> page(@RequestParam(defaultValue = "0") int after,
+                                     @RequestParam(defaultValue = "50") int size) {
+        return service.getCustomersPage(after, size);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdjsonResponses.stream(jsonMapper, service::streamAllCustomers);
+    }
+
+    @GetMapping("/search")
+    public List<Customer> search(@RequestParam("q") String query,
+                                 @RequestParam(defaultValue = "20") int limit) {
+        return service.searchCustomers(query, limit);
+    }
+
+    @GetMapping("/{id}/overview")
+    public CustomerOverview overview(@PathVariable int id) {
+        return service.getCustomerOverview(id);
     }
 
     @GetMapping("/{id}")
@@ -1,12 +1,21 @@
 package com.example.demo.controller;
 
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.demo.dto.AssignPolicyRequest;
-import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.CustomerPolicyResponse;
+import com.example.demo.entity.CustomerPolicySummary;
 import com.example.demo.service.CustomerPolicyService;
+import com.example.demo.service.CustomerPolicySummaryService;
+
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequestMapping("/customer-policies")
@@ -14,26 +23,55 @@ import com.example.demo.service.CustomerPolicyService;
 public class CustomerPolicyController {
 
     private final CustomerPolicyService service;
+    private final CustomerPolicySummaryService summaryService;
+    private final JsonMapper jsonMapper;
 
-    public CustomerPolicyController(CustomerPolicyService service) {
+    public CustomerPolicyController(CustomerPolicyService service,
+                                    CustomerPolicySummaryService summaryService,
+                                    JsonMapper jsonMapper) {
         this.service = service;
+        this.summaryService = summaryService;
+        this.jsonMapper = jsonMapper;
     }
 
     // Assign policy to customer
     @PostMapping("/assign")
-    public CustomerPolicy assign(@RequestBody AssignPolicyRequest request) {
+    public CustomerPolicyResponse assign(@RequestBody AssignPolicyRequest request) {
         return service.assignPolicy(request);
     }
 
     // Get all assignments
     @GetMapping
-    public List<CustomerPolicy> getAll() {
-        return service.getAllAssignments();
+    public ResponseEntity<List<CustomerPolicyResponse>> getAll(WebRequest request) {
+        return ConditionalResponses.unlessNotModified(request, service.getAssignmentsVersion(), service::getAllAssignments);
+    }
+
+    @GetMapping("/page")
+    public CursorPage<CustomerPolicyResponse> page(@RequestParam(defaultValue = "0") int after,
+                                                   @RequestParam(defaultValue = "50") int size) {
+        return service.getAssignmentsPage(after, size);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdjsonResponses.stream(jsonMapper, service::streamAllAssignments);
     }
 
     // Get assignment by id
     @GetMapping("/{id}")
-    public CustomerPolicy getById(@PathVariable int id) {
+    public CustomerPolicyResponse getById(@PathVariable int id) {
         return service.getById(id);
     }
+
+    // Paid vs claimed totals for one assignment, read from the maintained summary
+    @GetMapping("/{id}/summary")
+    public CustomerPolicySummary summary(@PathVariable int id) {
+        return summaryService.getSummary(id);
+    }
+
+    // Recompute every summary from payments and claims (backfill / repair)
+    @PostMapping("/summaries/rebuild")
+    public Map<String, Integer> rebuildSummaries() {
+        return Map.of("rebuilt", summaryService.rebuild());
+    }
 }
@@ -0,0 +1,55 @@
+package com.example.demo.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes a row source as newline-delimited JSON, one object per line, flushing
+ * as rows arrive so the full export is never held in memory.
+ */
+final class NdjsonResponses {
+
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private static final int FLUSH_EVERY = 500;
+
+    private NdjsonResponses() {}
+
+    static <T> ResponseEntity<StreamingResponseBody> stream(JsonMapper mapper, Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = out -> source.accept(new RowWriter<>(mapper, out));
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    private static final class RowWriter<T> implements Consumer<T> {
+
+        private final JsonMapper mapper;
+        private final OutputStream out;
+        private int written;
+
+        RowWriter(JsonMapper mapper, OutputStream out) {
+            this.mapper = mapper;
+            this.out = out;
+        }
+
+        @Override
+        public void accept(T row) {
+            try {
+                out.write(mapper.writeValueAsBytes(row));
+                out.write('\n');
+                if (++written % FLUSH_EVERY == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
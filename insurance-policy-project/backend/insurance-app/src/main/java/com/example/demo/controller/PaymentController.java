@@ -1,37 +1,91 @@
 package com.example.demo.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.demo.dto.AggregateReport;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.PaymentImportResult;
 import com.example.demo.dto.PaymentRequest;
-import com.example.demo.entity.Payment;
+import com.example.demo.dto.PaymentResponse;
+import com.example.demo.service.IdempotentRequests;
+import com.example.demo.service.PaymentImportService;
 import com.example.demo.service.PaymentService;
 
+import tools.jackson.databind.json.JsonMapper;
+
 @RestController
 @RequestMapping("/payments")
 @CrossOrigin(origins = "*")
 public class PaymentController {
 
     private final PaymentService service;
+    private final PaymentImportService importService;
+    private final IdempotentRequests idempotentRequests;
+    private final JsonMapper jsonMapper;
 
-    public PaymentController(PaymentService service) {
+    public PaymentController(PaymentService service, PaymentImportService importService,
+                             IdempotentRequests idempotentRequests, JsonMapper jsonMapper) {
         this.service = service;
+        this.importService = importService;
+        this.idempotentRequests = idempotentRequests;
+        this.jsonMapper = jsonMapper;
     }
 
+    // with an Idempotency-Key, a retried payment returns the original response instead of paying twice
     @PostMapping
-    public Payment pay(@RequestBody PaymentRequest request) {
-        return service.makePayment(request);
+    public ResponseEntity<?> pay(@RequestBody PaymentRequest request,
+                                 @RequestHeader(name = IdempotentRequests.HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(service.makePayment(request));
+        }
+        return idempotentRequests.execute("POST /payments", idempotencyKey, request, () -> service.makePayment(request));
     }
 
     @GetMapping
-    public List<Payment> all() {
-        return service.getAllPayments();
+    public ResponseEntity<List<PaymentResponse>> all(WebRequest request) {
+        return ConditionalResponses.unlessNotModified(request, service.getPaymentsVersion(), service::getAllPayments);
+    }
+
+    @GetMapping("/page")
+    public CursorPage<PaymentResponse> page(@RequestParam(defaultValue = "0") int after,
+                                            @RequestParam(defaultValue = "50") int size) {
+        return service.getPaymentsPage(after, size);
+    }
+
+    @GetMapping("/stats")
+    public AggregateReport stats() {
+        return service.getPaymentStats();
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdjsonResponses.stream(jsonMapper, service::streamAllPayments);
     }
 
     @GetMapping("/by-customer-policy/{id}")
-    public List<Payment> byCustomerPolicy(@PathVariable int id) {
+    public List<PaymentResponse> byCustomerPolicy(@PathVariable int id) {
         return service.getPaymentsByCustomerPolicyId(id);
     }
-}
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain", "application/octet-stream"})
+    public PaymentImportResult importCsv(InputStream body,
+                                         @RequestParam(defaultValue = "upload") String source,
+                                         @RequestParam(required = false) Integer resumeJobId) throws IOException {
+        try (body) {
+            return importService.importCsv(body, source, resumeJobId);
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<PaymentImportResult> importStatus(@PathVariable int jobId) {
+        PaymentImportResult result = importService.getJob(jobId);
+        return result != null ? ResponseEntity.ok(result) : ResponseEntity.notFound().build();
+    }
+}
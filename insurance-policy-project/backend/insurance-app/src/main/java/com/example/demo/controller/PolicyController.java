@@ -1,19 +1,27 @@
 package com.example.demo.controller;
 
 import java.util.List;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.entity.Policy;
 import com.example.demo.service.PolicyService;
 
+import tools.jackson.databind.json.JsonMapper;
+
 @RestController
 @RequestMapping("/policies")
 @CrossOrigin(origins = "*")
 public class PolicyController {
 
     private final PolicyService service;
+    private final JsonMapper jsonMapper;
 
-    public PolicyController(PolicyService service) {
+    public PolicyController(PolicyService service, JsonMapper jsonMapper) {
         this.service = service;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping
@@ -22,8 +30,19 @@ public class PolicyController {
     }
 
     @GetMapping
-    public List<Policy> getAll() {
-        return service.getAllPolicies();
+    public ResponseEntity<List<Policy>> getAll(WebRequest request) {
+        return ConditionalResponses.unlessNotModified(request, service.getPoliciesVersion(), service::getAllPolicies);
+    }
+
+    @GetMapping("/page")
+    public CursorPage<Policy> page(@RequestParam(defaultValue = "0") int after,
+                                   @RequestParam(defaultValue = "50") int size) {
+        return service.getPoliciesPage(after, size);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return NdjsonResponses.stream(jsonMapper, service::streamAllPolicies);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/** Overall totals plus the same figures broken down by each dashboard dimension. */
+public class AggregateReport {
+
+    private final AggregateRow overall;
+    private final Map<String, List<AggregateRow>> groups;
+
+    public AggregateReport(AggregateRow overall, Map<String, List<AggregateRow>> groups) {
+        this.overall = overall;
+        this.groups = groups;
+    }
+
+    public AggregateRow getOverall() { return overall; }
+    public Map<String, List<AggregateRow>> getGroups() { return groups; }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.dto;
+
+/**
+ * One group of a dashboard aggregate: the group key with the row count, sum and
+ * average of the amount column. Built directly by JPQL constructor expressions.
+ */
+public class AggregateRow {
+
+    private final String key;
+    private final long count;
+    private final double total;
+    private final double average;
+
+    public AggregateRow(String key, Long count, Double total, Double average) {
+        this.key = key;
+        this.count = count != null ? count : 0;
+        this.total = total != null ? total : 0;
+        this.average = average != null ? average : 0;
+    }
+
+    /** Month bucket, keyed {@code yyyy-MM}. */
+    public AggregateRow(Integer year, Integer month, Long count, Double total, Double average) {
+        this(year == null || month == null ? null : String.format("%04d-%02d", year, month), count, total, average);
+    }
+
+    public String getKey() { return key; }
+    public long getCount() { return count; }
+    public double getTotal() { return total; }
+    public double getAverage() { return average; }
+}
@@ -0,0 +1,36 @@
+package com.example.demo.dto;
+
+/**
+ * Outcome of one row of a bulk claim submission; {@code index} is the row's
+ * position in the request array.
+ */
+public class ClaimBatchResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    private final int index;
+    private final String status;
+    private final Integer claimId;
+    private final String error;
+
+    private ClaimBatchResult(int index, String status, Integer claimId, String error) {
+        this.index = index;
+        this.status = status;
+        this.claimId = claimId;
+        this.error = error;
+    }
+
+    public static ClaimBatchResult created(int index, int claimId) {
+        return new ClaimBatchResult(index, CREATED, claimId, null);
+    }
+
+    public static ClaimBatchResult rejected(int index, String error) {
+        return new ClaimBatchResult(index, REJECTED, null, error);
+    }
+
+    public int getIndex() { return index; }
+    public String getStatus() { return status; }
+    public Integer getClaimId() { return claimId; }
+    public String getError() { return error; }
+}
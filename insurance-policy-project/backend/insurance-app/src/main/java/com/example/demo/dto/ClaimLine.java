@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A claim as listed under its policy holding in the customer overview. Built
+ * directly by a JPQL constructor expression, so no Claim entity is loaded.
+ */
+public class ClaimLine {
+
+    private final int id;
+    private final int customerPolicyId;
+    private final double claimAmount;
+    private final LocalDate claimDate;
+    private final String claimStatus;
+    private final String description;
+
+    public ClaimLine(int id, int customerPolicyId, double claimAmount, LocalDate claimDate,
+                     String claimStatus, String description) {
+        this.id = id;
+        this.customerPolicyId = customerPolicyId;
+        this.claimAmount = claimAmount;
+        this.claimDate = claimDate;
+        this.claimStatus = claimStatus;
+        this.description = description;
+    }
+
+    public int getId() { return id; }
+    public int getCustomerPolicyId() { return customerPolicyId; }
+    public double getClaimAmount() { return claimAmount; }
+    public LocalDate getClaimDate() { return claimDate; }
+    public String getClaimStatus() { return claimStatus; }
+    public String getDescription() { return description; }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+import com.example.demo.entity.Claim;
+
+public class ClaimResponse {
+
+    private final int id;
+    private final CustomerPolicyResponse customerPolicy;
+    private final double claimAmount;
+    private final LocalDate claimDate;
+    private final String claimStatus;
+    private final String description;
+
+    public ClaimResponse(int id, CustomerPolicyResponse customerPolicy, double claimAmount,
+                         LocalDate claimDate, String claimStatus, String description) {
+        this.id = id;
+        this.customerPolicy = customerPolicy;
+        this.claimAmount = claimAmount;
+        this.claimDate = claimDate;
+        this.claimStatus = claimStatus;
+        this.description = description;
+    }
+
+    public static ClaimResponse from(Claim c) {
+        return new ClaimResponse(c.getId(), CustomerPolicyResponse.from(c.getCustomerPolicy()), c.getClaimAmount(),
+                c.getClaimDate(), c.getClaimStatus(), c.getDescription());
+    }
+
+    public int getId() { return id; }
+    public CustomerPolicyResponse getCustomerPolicy() { return customerPolicy; }
+    public double getClaimAmount() { return claimAmount; }
+    public LocalDate getClaimDate() { return claimDate; }
+    public String getClaimStatus() { return claimStatus; }
+    public String getDescription() { return description; }
+}
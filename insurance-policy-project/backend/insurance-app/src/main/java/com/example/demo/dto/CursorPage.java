@@ -0,0 +1,52 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * One page of a keyset (id-ordered) listing. Pass {@code nextCursor} back as
+ * {@code after} to fetch the following page; it is null on the last page.
+ */
+public class CursorPage<T> {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 500;
+
+    private final List<T> items;
+    private final Integer nextCursor;
+
+    public CursorPage(List<T> items, Integer nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public static int clampSize(int size) {
+        if (size < 1) return DEFAULT_SIZE;
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra
+     * row only signals that another page exists and is dropped.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, ToIntFunction<T> idOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, idOf.applyAsInt(items.get(size - 1)));
+    }
+
+    /**
+     * Clamps {@code size}, fetches one row more than that through {@code query} (which
+     * receives the row limit) and builds the page from the result.
+     */
+    public static <T> CursorPage<T> fetch(int size, IntFunction<List<T>> query, ToIntFunction<T> idOf) {
+        int limit = clampSize(size);
+        return of(query.apply(limit + 1), limit, idOf);
+    }
+
+    public List<T> getItems() { return items; }
+    public Integer getNextCursor() { return nextCursor; }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+import com.example.demo.entity.Customer;
+
+/**
+ * Everything the customer page shows: the customer and each policy they hold
+ * with its claims and payments.
+ */
+public class CustomerOverview {
+
+    private final Customer customer;
+    private final List<HoldingOverview> policies;
+
+    public CustomerOverview(Customer customer, List<HoldingOverview> policies) {
+        this.customer = customer;
+        this.policies = policies;
+    }
+
+    public Customer getCustomer() { return customer; }
+    public List<HoldingOverview> getPolicies() { return policies; }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+import com.example.demo.entity.CustomerPolicy;
+
+/**
+ * Response view of a {@link CustomerPolicy}. Built from an entity whose customer
+ * and policy were fetched with it; both are copied into flat views, so serialising
+ * it never touches an entity or triggers a lazy load.
+ */
+public class CustomerPolicyResponse {
+
+    private final int id;
+    private final CustomerView customer;
+    private final PolicyView policy;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String status;
+    private final double premiumAmount;
+    private final LocalDate nextDueDate;
+    private final String premiumStatus;
+
+    public CustomerPolicyResponse(int id, CustomerView customer, PolicyView policy, LocalDate startDate,
+                                  LocalDate endDate, String status, double premiumAmount,
+                                  LocalDate nextDueDate, String premiumStatus) {
+        this.id = id;
+        this.customer = customer;
+        this.policy = policy;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.status = status;
+        this.premiumAmount = premiumAmount;
+        this.nextDueDate = nextDueDate;
+        this.premiumStatus = premiumStatus;
+    }
+
+    public static CustomerPolicyResponse from(CustomerPolicy cp) {
+        if (cp == null) return null;
+        return new CustomerPolicyResponse(cp.getId(),
+                CustomerView.from(cp.getCustomer()),
+                PolicyView.from(cp.getPolicy()),
+                cp.getStartDate(), cp.getEndDate(), cp.getStatus(), cp.getPremiumAmount(),
+                cp.getNextDueDate(), cp.getPremiumStatus());
+    }
+
+    public int getId() { return id; }
+    public CustomerView getCustomer() { return customer; }
+    public PolicyView getPolicy() { return policy; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public String getStatus() { return status; }
+    public double getPremiumAmount() { return premiumAmount; }
+    public LocalDate getNextDueDate() { return nextDueDate; }
+    public String getPremiumStatus() { return premiumStatus; }
+}
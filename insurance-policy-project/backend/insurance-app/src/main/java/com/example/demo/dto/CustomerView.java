@@ -0,0 +1,15 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Customer;
+
+/**
+ * The customer fields a holding carries in responses. Copied out of the entity so
+ * serialising a response never reaches into the persistence model.
+ */
+public record CustomerView(int id, String firstName, String lastName, String email, String phone, String address) {
+
+    public static CustomerView from(Customer c) {
+        if (c == null) return null;
+        return new CustomerView(c.getId(), c.getFirstName(), c.getLastName(), c.getEmail(), c.getPhone(), c.getAddress());
+    }
+}
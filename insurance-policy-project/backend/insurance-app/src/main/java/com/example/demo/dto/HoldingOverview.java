@@ -0,0 +1,49 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.example.demo.entity.CustomerPolicy;
+
+/**
+ * One policy a customer holds, with its claims and payments, as shown on the
+ * customer overview.
+ */
+public class HoldingOverview {
+
+    private final int id;
+    private final PolicyView policy;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final String status;
+    private final double premiumAmount;
+    private final List<ClaimLine> claims;
+    private final List<PaymentLine> payments;
+
+    public HoldingOverview(int id, PolicyView policy, LocalDate startDate, LocalDate endDate, String status,
+                           double premiumAmount, List<ClaimLine> claims, List<PaymentLine> payments) {
+        this.id = id;
+        this.policy = policy;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.status = status;
+        this.premiumAmount = premiumAmount;
+        this.claims = claims;
+        this.payments = payments;
+    }
+
+    /** Expects the holding's policy to have been fetched with it. */
+    public static HoldingOverview of(CustomerPolicy cp, List<ClaimLine> claims, List<PaymentLine> payments) {
+        return new HoldingOverview(cp.getId(), PolicyView.from(cp.getPolicy()),
+                cp.getStartDate(), cp.getEndDate(), cp.getStatus(), cp.getPremiumAmount(), claims, payments);
+    }
+
+    public int getId() { return id; }
+    public PolicyView getPolicy() { return policy; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public String getStatus() { return status; }
+    public double getPremiumAmount() { return premiumAmount; }
+    public List<ClaimLine> getClaims() { return claims; }
+    public List<PaymentLine> getPayments() { return payments; }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.dto;
+
+import java.util.List;
+
+/**
+ * Progress report for a payment CSV import. Counters are cumulative for the job;
+ * {@code elapsedMs} and {@code rowsPerSecond} cover the current run only.
+ */
+public class PaymentImportResult {
+
+    private final int jobId;
+    private final String status;
+    private final long linesCommitted;
+    private final long rowsImported;
+    private final long rowsRejected;
+    private final long elapsedMs;
+    private final double rowsPerSecond;
+    private final String lastError;
+    private final List<String> rejections;
+
+    public PaymentImportResult(int jobId, String status, long linesCommitted, long rowsImported, long rowsRejected,
+                               long elapsedMs, double rowsPerSecond, String lastError, List<String> rejections) {
+        this.jobId = jobId;
+        this.status = status;
+        this.linesCommitted = linesCommitted;
+        this.rowsImported = rowsImported;
+        this.rowsRejected = rowsRejected;
+        this.elapsedMs = elapsedMs;
+        this.rowsPerSecond = rowsPerSecond;
+        this.lastError = lastError;
+        this.rejections = rejections;
+    }
+
+    public int getJobId() { return jobId; }
+    public String getStatus() { return status; }
+    public long getLinesCommitted() { return linesCommitted; }
+    public long getRowsImported() { return rowsImported; }
+    public long getRowsRejected() { return rowsRejected; }
+    public long getElapsedMs() { return elapsedMs; }
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public String getLastError() { return lastError; }
+    public List<String> getRejections() { return rejections; }
+}
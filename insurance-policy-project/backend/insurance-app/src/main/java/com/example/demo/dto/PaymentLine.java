@@ -0,0 +1,34 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A payment as listed under its policy holding in the customer overview. Built
+ * directly by a JPQL constructor expression, so no Payment entity is loaded.
+ */
+public class PaymentLine {
+
+    private final int id;
+    private final int customerPolicyId;
+    private final double amount;
+    private final LocalDate paymentDate;
+    private final String paymentMode;
+    private final String paymentStatus;
+
+    public PaymentLine(int id, int customerPolicyId, double amount, LocalDate paymentDate,
+                       String paymentMode, String paymentStatus) {
+        this.id = id;
+        this.customerPolicyId = customerPolicyId;
+        this.amount = amount;
+        this.paymentDate = paymentDate;
+        this.paymentMode = paymentMode;
+        this.paymentStatus = paymentStatus;
+    }
+
+    public int getId() { return id; }
+    public int getCustomerPolicyId() { return customerPolicyId; }
+    public double getAmount() { return amount; }
+    public LocalDate getPaymentDate() { return paymentDate; }
+    public String getPaymentMode() { return paymentMode; }
+    public String getPaymentStatus() { return paymentStatus; }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.dto;
+
+import java.time.LocalDate;
+
+import com.example.demo.entity.Payment;
+
+public class PaymentResponse {
+
+    private final int id;
+    private final CustomerPolicyResponse customerPolicy;
+    private final double amount;
+    private final LocalDate paymentDate;
+    private final String paymentMode;
+    private final String paymentStatus;
+
+    public PaymentResponse(int id, CustomerPolicyResponse customerPolicy, double amount,
+                           LocalDate paymentDate, String paymentMode, String paymentStatus) {
+        this.id = id;
+        this.customerPolicy = customerPolicy;
+        this.amount = amount;
+        this.paymentDate = paymentDate;
+        this.paymentMode = paymentMode;
+        this.paymentStatus = paymentStatus;
+    }
+
+    public static PaymentResponse from(Payment p) {
+        return new PaymentResponse(p.getId(), CustomerPolicyResponse.from(p.getCustomerPolicy()), p.getAmount(),
+                p.getPaymentDate(), p.getPaymentMode(), p.getPaymentStatus());
+    }
+
+    public int getId() { return id; }
+    public CustomerPolicyResponse getCustomerPolicy() { return customerPolicy; }
+    public double getAmount() { return amount; }
+    public LocalDate getPaymentDate() { return paymentDate; }
+    public String getPaymentMode() { return paymentMode; }
+    public String getPaymentStatus() { return paymentStatus; }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.Policy;
+
+/** The policy fields a holding carries in responses; see {@link CustomerView}. */
+public record PolicyView(int id, String policyName, String policyType, double premiumAmount,
+                         int durationMonths, double coverageAmount) {
+
+    public static PolicyView from(Policy p) {
+        if (p == null) return null;
+        return new PolicyView(p.getId(), p.getPolicyName(), p.getPolicyType(), p.getPremiumAmount(),
+                p.getDurationMonths(), p.getCoverageAmount());
+    }
+}
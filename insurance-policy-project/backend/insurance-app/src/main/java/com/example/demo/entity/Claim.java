@@ -3,15 +3,18 @@ package com.example.demo.entity;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 
+import com.example.demo.repository.ChangeCounterListener;
+
 @Entity
-@Table(name = "claims")
+@Table(name = "claims", indexes = @Index(name = "idx_claims_customer_policy_id", columnList = "customer_policy_id"))
+@EntityListeners(ChangeCounterListener.class)
 public class Claim {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_policy_id")
     private CustomerPolicy customerPolicy;
 
@@ -23,6 +26,9 @@ public class Claim {
 
     private String description;
 
+    @Version
+    private long version;
+
     public Claim() {}
 
     
@@ -43,4 +49,6 @@ public class Claim {
 
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
+
+    public long getVersion() { return version; }
 }
@@ -0,0 +1,51 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A claim waiting in {@code claim_adjudication_queue}. The row lives until a worker
+ * has decided the claim; a failed attempt pushes {@code availableAt} back so the task
+ * is retried later instead of blocking the queue.
+ */
+@Entity
+@Table(name = "claim_adjudication_queue")
+public class ClaimAdjudicationTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    private int claimId;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public ClaimAdjudicationTask() {}
+
+    public long getId() { return id; }
+    public void setId(long id) { this.id = id; }
+
+    public int getClaimId() { return claimId; }
+    public void setClaimId(int claimId) { this.claimId = claimId; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public LocalDateTime getAvailableAt() { return availableAt; }
+    public void setAvailableAt(LocalDateTime availableAt) { this.availableAt = availableAt; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
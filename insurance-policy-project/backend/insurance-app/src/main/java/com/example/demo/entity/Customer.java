@@ -1,11 +1,15 @@
 package com.example.demo.entity;
 
+import com.example.demo.repository.ChangeCounterListener;
+
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 
 @Entity
+@EntityListeners(ChangeCounterListener.class)
 public class Customer {
 
     @Id
@@ -3,19 +3,22 @@ package com.example.demo.entity;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 
+import com.example.demo.repository.ChangeCounterListener;
+
 @Entity
 @Table(name = "customer_policies")
+@EntityListeners(ChangeCounterListener.class)
 public class CustomerPolicy {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id")
     private Customer customer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "policy_id")
     private Policy policy;
 
@@ -26,6 +29,17 @@ public class CustomerPolicy {
 
     private double premiumAmount;
 
+    // written only by PremiumRenewalService, so entity saves never overwrite a run's result
+    @Column(insertable = false, updatable = false)
+    private LocalDate nextDueDate;
+
+    @Column(insertable = false, updatable = false)
+    private String premiumStatus;
+
+    // bumped by every claim on this holding; see CoverageLedger
+    @Version
+    private long version;
+
     public CustomerPolicy() {}
 
     // Getters & Setters
@@ -49,5 +63,11 @@ public class CustomerPolicy {
 
     public double getPremiumAmount() { return premiumAmount; }
     public void setPremiumAmount(double premiumAmount) { this.premiumAmount = premiumAmount; }
+
+    public LocalDate getNextDueDate() { return nextDueDate; }
+
+    public String getPremiumStatus() { return premiumStatus; }
+
+    public long getVersion() { return version; }
 }
 
@@ -0,0 +1,50 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Running financial totals for one customer policy, kept in step with its payments
+ * and claims by {@code CustomerPolicySummaryService} so reads never scan those tables.
+ * Only PAID payments count towards {@code totalPaid}; PENDING and UNDER_REVIEW claims
+ * are open.
+ */
+@Entity
+@Table(name = "customer_policy_summary")
+public class CustomerPolicySummary {
+
+    @Id
+    @Column(name = "customer_policy_id")
+    private int customerPolicyId;
+
+    private double totalPaid;
+
+    private double totalClaimed;
+
+    private LocalDate lastPaymentDate;
+
+    private int openClaimCount;
+
+    private LocalDateTime updatedAt;
+
+    public CustomerPolicySummary() {}
+
+    public int getCustomerPolicyId() { return customerPolicyId; }
+    public void setCustomerPolicyId(int customerPolicyId) { this.customerPolicyId = customerPolicyId; }
+
+    public double getTotalPaid() { return totalPaid; }
+    public void setTotalPaid(double totalPaid) { this.totalPaid = totalPaid; }
+
+    public double getTotalClaimed() { return totalClaimed; }
+    public void setTotalClaimed(double totalClaimed) { this.totalClaimed = totalClaimed; }
+
+    public LocalDate getLastPaymentDate() { return lastPaymentDate; }
+    public void setLastPaymentDate(LocalDate lastPaymentDate) { this.lastPaymentDate = lastPaymentDate; }
+
+    public int getOpenClaimCount() { return openClaimCount; }
+    public void setOpenClaimCount(int openClaimCount) { this.openClaimCount = openClaimCount; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -3,15 +3,18 @@ package com.example.demo.entity;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 
+import com.example.demo.repository.ChangeCounterListener;
+
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = @Index(name = "idx_payments_customer_policy_id", columnList = "customer_policy_id"))
+@EntityListeners(ChangeCounterListener.class)
 public class Payment {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private int id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_policy_id")
     private CustomerPolicy customerPolicy;
 
@@ -23,6 +26,9 @@ public class Payment {
 
     private String paymentStatus; // Paid / Pending / Failed
 
+    @Version
+    private long version;
+
     public Payment() {}
 
     // Getters & Setters
@@ -43,4 +49,6 @@ public class Payment {
 
     public String getPaymentStatus() { return paymentStatus; }
     public void setPaymentStatus(String paymentStatus) { this.paymentStatus = paymentStatus; }
+
+    public long getVersion() { return version; }
 }
@@ -0,0 +1,68 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one settlement-file import. {@code linesCommitted} is the checkpoint:
+ * every data line up to it has been written (or rejected) in a committed chunk, so a
+ * failed import can be resumed by re-sending the same file with this job's id.
+ */
+@Entity
+@Table(name = "payment_import_jobs")
+public class PaymentImportJob {
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    private String sourceName;
+
+    private String status;
+
+    private long linesCommitted;
+
+    private long rowsImported;
+
+    private long rowsRejected;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    public PaymentImportJob() {}
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public String getSourceName() { return sourceName; }
+    public void setSourceName(String sourceName) { this.sourceName = sourceName; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public long getLinesCommitted() { return linesCommitted; }
+    public void setLinesCommitted(long linesCommitted) { this.linesCommitted = linesCommitted; }
+
+    public long getRowsImported() { return rowsImported; }
+    public void setRowsImported(long rowsImported) { this.rowsImported = rowsImported; }
+
+    public long getRowsRejected() { return rowsRejected; }
+    public void setRowsRejected(long rowsRejected) { this.rowsRejected = rowsRejected; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+}
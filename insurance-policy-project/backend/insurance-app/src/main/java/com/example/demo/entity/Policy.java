@@ -2,8 +2,11 @@ package com.example.demo.entity;
 
 import jakarta.persistence.*;
 
+import com.example.demo.repository.ChangeCounterListener;
+
 @Entity
 @Table(name = "policies")
+@EntityListeners(ChangeCounterListener.class)
 public class Policy {
 
     @Id
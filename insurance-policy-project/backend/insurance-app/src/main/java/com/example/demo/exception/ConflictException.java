@@ -0,0 +1,13 @@
+package com.example.demo.exception;
+
+/**
+ * Thrown when a request clashes with existing state, e.g. a second account for one
+ * email or a second run of an import that is already running. Answered with 409 so
+ * clients can tell it from a server fault.
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.exception;
+
+/**
+ * Thrown when a bounded resource is saturated and the caller should back off and retry.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() { return retryAfterSeconds; }
+}
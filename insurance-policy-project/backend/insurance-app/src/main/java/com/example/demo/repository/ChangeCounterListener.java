@@ -0,0 +1,42 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Claim;
+import com.example.demo.entity.Customer;
+import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.entity.Payment;
+import com.example.demo.entity.Policy;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Bumps the change marker of an entity's table whenever Hibernate inserts, updates or
+ * deletes a row of it, including in-place updates through {@code save} on an existing
+ * id. Hibernate obtains the listener from Spring, so it is constructor-injected.
+ */
+public class ChangeCounterListener {
+
+    private final ChangeCounterRepository counters;
+
+    public ChangeCounterListener(ChangeCounterRepository counters) {
+        this.counters = counters;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void changed(Object entity) {
+        String table = switch (entity) {
+            case Customer c -> ChangeCounterRepository.CUSTOMERS;
+            case Policy p -> ChangeCounterRepository.POLICIES;
+            case CustomerPolicy cp -> ChangeCounterRepository.CUSTOMER_POLICIES;
+            case Payment p -> ChangeCounterRepository.PAYMENTS;
+            case Claim c -> ChangeCounterRepository.CLAIMS;
+            default -> null;
+        };
+        if (table != null) {
+            counters.bump(table);
+        }
+    }
+}
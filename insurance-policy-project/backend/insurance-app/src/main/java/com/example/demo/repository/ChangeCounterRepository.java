@@ -0,0 +1,90 @@
+package com.example.demo.repository;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JDBC access to {@code change_counters}, the change markers behind conditional GETs.
+ * {@link #bump} runs in the writer's transaction, so a marker moves exactly when the
+ * write commits and a reader can never see the new marker with the old rows. Entity
+ * writes bump through {@link ChangeCounterListener}; JDBC writers call it themselves.
+ */
+@Repository
+public class ChangeCounterRepository {
+
+    public static final String CUSTOMERS = "customers";
+    public static final String POLICIES = "policies";
+    public static final String CUSTOMER_POLICIES = "customer_policies";
+    public static final String PAYMENTS = "payments";
+    public static final String CLAIMS = "claims";
+
+    private static final int STRIPES = 16;
+
+    private static final String BUMP_SQL =
+            "insert into change_counters (name, stripe, version) values (?, ?, 1) "
+                    + "on duplicate key update version = version + 1";
+
+    /** Tables already bumped by the current transaction, and the stripe it bumps them on. */
+    private static final class Bumped {
+        private final int stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+        private final Set<String> tables = new HashSet<>();
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChangeCounterRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Moves the marker of {@code table} in the caller's transaction. One transaction bumps
+     * a table once and always on the same stripe, however many rows it writes.
+     */
+    public void bump(String table) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(BUMP_SQL, table, ThreadLocalRandom.current().nextInt(STRIPES));
+            return;
+        }
+        Bumped bumped = (Bumped) TransactionSynchronizationManager.getResource(this);
+        if (bumped == null) {
+            bumped = new Bumped();
+            TransactionSynchronizationManager.bindResource(this, bumped);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeCounterRepository.this);
+                }
+            });
+        }
+        if (bumped.tables.add(table)) {
+            jdbcTemplate.update(BUMP_SQL, table, bumped.stripe);
+        }
+    }
+
+    /** The markers of {@code tables}, in the order given, as one ETag-safe string. */
+    public String versionKey(String... tables) {
+        StringJoiner placeholders = new StringJoiner(", ");
+        for (int i = 0; i < tables.length; i++) {
+            placeholders.add("?");
+        }
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query("select name, sum(version) from change_counters where name in (" + placeholders
+                + ") group by name", rs -> {
+            versions.put(rs.getString(1), rs.getLong(2));
+        }, (Object[]) tables);
+        StringJoiner key = new StringJoiner("-");
+        for (String table : tables) {
+            key.add(String.valueOf(versions.getOrDefault(table, 0L)));
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.entity.ClaimAdjudicationTask;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface ClaimAdjudicationTaskRepository extends JpaRepository<ClaimAdjudicationTask, Long> {
+
+    /**
+     * Locks up to {@code limit} due tasks for the current transaction. A lock timeout of -2
+     * is Hibernate's SKIP LOCKED: rows another worker holds are passed over instead of
+     * waited on, so concurrent pollers each get a disjoint batch.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select t from ClaimAdjudicationTask t where t.availableAt <= :now order by t.availableAt, t.id")
+    List<ClaimAdjudicationTask> lockDue(@Param("now") LocalDateTime now, Limit limit);
+}
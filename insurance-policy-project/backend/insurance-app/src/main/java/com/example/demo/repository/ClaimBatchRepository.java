@@ -0,0 +1,92 @@
+package com.example.demo.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.dto.ClaimRequest;
+
+/**
+ * JDBC batch inserts for bulk claim ingestion. Claim ids are IDENTITY-generated,
+ * which stops Hibernate from batching inserts, so bulk rows go through a single
+ * prepared statement executed as one batch per chunk instead.
+ */
+@Repository
+public class ClaimBatchRepository {
+
+    /** One accepted row and the status it is stored with, which intake may override. */
+    public record NewClaim(ClaimRequest request, String status) {}
+
+    private static final String INSERT_SQL =
+            "insert into claims (customer_policy_id, claim_amount, claim_date, claim_status, description) "
+                    + "values (?, ?, ?, ?, ?)";
+
+    private static final String ENQUEUE_SQL =
+            "insert into claim_adjudication_queue (claim_id, attempts, available_at, created_at) values (?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeCounterRepository changeCounters;
+
+    public ClaimBatchRepository(JdbcTemplate jdbcTemplate, ChangeCounterRepository changeCounters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeCounters = changeCounters;
+    }
+
+    /** Inserts the rows as one JDBC batch and returns the generated ids in input order. */
+    public int[] insertAll(List<NewClaim> rows) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ClaimRequest row = rows.get(i).request();
+                        ps.setInt(1, row.getCustomerPolicyId());
+                        ps.setDouble(2, row.getClaimAmount());
+                        if (row.getClaimDate() != null) {
+                            ps.setDate(3, Date.valueOf(row.getClaimDate()));
+                        } else {
+                            ps.setNull(3, Types.DATE);
+                        }
+                        ps.setString(4, rows.get(i).status());
+                        ps.setString(5, row.getDescription());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keys);
+        changeCounters.bump(ChangeCounterRepository.CLAIMS);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        int[] ids = new int[generated.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ((Number) generated.get(i).values().iterator().next()).intValue();
+        }
+        return ids;
+    }
+
+    /** Queues the claims for adjudication as one JDBC batch, in the caller's transaction. */
+    public void enqueueForAdjudication(List<Integer> claimIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ENQUEUE_SQL, claimIds, claimIds.size(), (ps, claimId) -> {
+            ps.setInt(1, claimId);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+        });
+    }
+}
@@ -1,8 +1,65 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.dto.AggregateRow;
+import com.example.demo.dto.ClaimLine;
 import com.example.demo.entity.Claim;
 
+import jakarta.persistence.QueryHint;
+
 public interface ClaimRepository extends JpaRepository<Claim, Integer> {
-}
 
+    @EntityGraph(attributePaths = {"customerPolicy", "customerPolicy.customer", "customerPolicy.policy"})
+    @Override
+    List<Claim> findAll();
+
+    // served by idx_claims_customer_policy_id
+    @EntityGraph(attributePaths = {"customerPolicy", "customerPolicy.customer", "customerPolicy.policy"})
+    List<Claim> findByCustomerPolicyIdOrderByIdAsc(int customerPolicyId);
+
+    @EntityGraph(attributePaths = {"customerPolicy", "customerPolicy.customer", "customerPolicy.policy"})
+    List<Claim> findByIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select c from Claim c left join fetch c.customerPolicy cp left join fetch cp.customer left join fetch cp.policy order by c.id")
+    Stream<Claim> streamAll();
+
+    // Dashboard aggregates: one GROUP BY each, so only the grouped figures leave the database.
+
+    @Query("select new com.example.demo.dto.AggregateRow('all', count(c), sum(c.claimAmount), avg(c.claimAmount)) from Claim c")
+    AggregateRow aggregateAll();
+
+    @Query("select new com.example.demo.dto.AggregateRow(c.claimStatus, count(c), sum(c.claimAmount), avg(c.claimAmount)) from Claim c group by c.claimStatus order by c.claimStatus")
+    List<AggregateRow> aggregateByStatus();
+
+    @Query("select new com.example.demo.dto.AggregateRow(p.policyType, count(c), sum(c.claimAmount), avg(c.claimAmount)) from Claim c join c.customerPolicy cp join cp.policy p group by p.policyType order by p.policyType")
+    List<AggregateRow> aggregateByPolicyType();
+
+    @Query("select new com.example.demo.dto.AggregateRow(year(c.claimDate), month(c.claimDate), count(c), sum(c.claimAmount), avg(c.claimAmount)) from Claim c "
+            + "group by year(c.claimDate), month(c.claimDate) order by year(c.claimDate), month(c.claimDate)")
+    List<AggregateRow> aggregateByMonth();
+
+    // all claims of a customer's holdings in one statement, served by idx_claims_customer_policy_id
+    @Query("select new com.example.demo.dto.ClaimLine(c.id, c.customerPolicy.id, c.claimAmount, c.claimDate, c.claimStatus, c.description)"
+            + " from Claim c where c.customerPolicy.id in :ids order by c.id")
+    List<ClaimLine> findLinesByCustomerPolicyIds(@Param("ids") Collection<Integer> customerPolicyIds);
+
+    @Query("select coalesce(sum(c.claimAmount), 0) from Claim c where c.customerPolicy.id = :id and c.claimStatus = :status")
+    double sumAmountByCustomerPolicyIdAndStatus(@Param("id") int customerPolicyId, @Param("status") String status);
+
+    // fallback for the coverage ledger when a holding has no summary row yet
+    @Query("select coalesce(sum(c.claimAmount), 0) from Claim c where c.customerPolicy.id = :id"
+            + " and (c.claimStatus is null or c.claimStatus <> 'REJECTED')")
+    double sumClaimedByCustomerPolicyId(@Param("id") int customerPolicyId);
+}
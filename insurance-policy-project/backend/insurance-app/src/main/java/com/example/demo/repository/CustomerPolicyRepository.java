@@ -1,9 +1,52 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.example.demo.entity.CustomerPolicy;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface CustomerPolicyRepository extends JpaRepository<CustomerPolicy, Integer> {
-}
 
+    @EntityGraph(attributePaths = {"customer", "policy"})
+    @Override
+    List<CustomerPolicy> findAll();
+
+    @EntityGraph(attributePaths = {"customer", "policy"})
+    Optional<CustomerPolicy> findWithDetailsById(int id);
+
+    @Query("select cp.id from CustomerPolicy cp where cp.id in :ids")
+    List<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
+
+    @EntityGraph(attributePaths = {"policy"})
+    List<CustomerPolicy> findWithPolicyByIdIn(Collection<Integer> ids);
+
+    @EntityGraph(attributePaths = {"customer", "policy"})
+    List<CustomerPolicy> findByIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select cp from CustomerPolicy cp left join fetch cp.customer left join fetch cp.policy order by cp.id")
+    Stream<CustomerPolicy> streamAll();
+
+    // served by idx_customer_policies_customer_id
+    @EntityGraph(attributePaths = {"policy"})
+    List<CustomerPolicy> findByCustomerIdOrderByIdAsc(int customerId);
+
+    // serialises adjudication per holding, so concurrent approvals cannot overrun its coverage
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select cp from CustomerPolicy cp join fetch cp.policy where cp.id = :id")
+    Optional<CustomerPolicy> lockWithPolicy(@Param("id") int id);
+}
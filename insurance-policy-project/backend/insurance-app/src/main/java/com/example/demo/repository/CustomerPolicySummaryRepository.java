@@ -0,0 +1,55 @@
+package com.example.demo.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.entity.CustomerPolicySummary;
+
+/**
+ * Deltas are applied with single-statement upserts, so concurrent payments and claims
+ * on the same policy add up in the database instead of racing a read-modify-write.
+ */
+public interface CustomerPolicySummaryRepository extends JpaRepository<CustomerPolicySummary, Integer> {
+
+    @Modifying
+    @Query(value = "insert into customer_policy_summary "
+            + "(customer_policy_id, total_paid, total_claimed, last_payment_date, open_claim_count, updated_at) "
+            + "values (:id, :paid, :claimed, :lastPaymentDate, :openClaims, current_timestamp) "
+            + "on duplicate key update "
+            + "total_paid = total_paid + values(total_paid), "
+            + "total_claimed = total_claimed + values(total_claimed), "
+            + "last_payment_date = coalesce(greatest(last_payment_date, values(last_payment_date)), "
+            + "  last_payment_date, values(last_payment_date)), "
+            + "open_claim_count = open_claim_count + values(open_claim_count), "
+            + "updated_at = current_timestamp",
+            nativeQuery = true)
+    void applyDelta(@Param("id") int customerPolicyId,
+                    @Param("paid") double paid,
+                    @Param("claimed") double claimed,
+                    @Param("lastPaymentDate") LocalDate lastPaymentDate,
+                    @Param("openClaims") int openClaims);
+
+    @Modifying
+    @Query(value = "delete from customer_policy_summary", nativeQuery = true)
+    int deleteAllRows();
+
+    /** Recomputes every summary from the source tables in one set-based statement. */
+    @Modifying
+    @Query(value = "insert into customer_policy_summary "
+            + "(customer_policy_id, total_paid, total_claimed, last_payment_date, open_claim_count, updated_at) "
+            + "select cp.id, coalesce(p.total_paid, 0), coalesce(c.total_claimed, 0), p.last_payment_date, "
+            + "coalesce(c.open_claims, 0), current_timestamp "
+            + "from customer_policies cp "
+            + "left join (select customer_policy_id, sum(amount) as total_paid, max(payment_date) as last_payment_date "
+            + "  from payments where payment_status = 'PAID' group by customer_policy_id) p on p.customer_policy_id = cp.id "
+            + "left join (select customer_policy_id, "
+            + "  sum(case when claim_status = 'REJECTED' then 0 else claim_amount end) as total_claimed, "
+            + "  sum(case when claim_status in ('PENDING', 'UNDER_REVIEW') then 1 else 0 end) as open_claims "
+            + "  from claims group by customer_policy_id) c on c.customer_policy_id = cp.id",
+            nativeQuery = true)
+    int insertRecomputed();
+}
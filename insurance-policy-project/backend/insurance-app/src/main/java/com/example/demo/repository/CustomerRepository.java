@@ -1,8 +1,23 @@
 package com.example.demo.repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.example.demo.entity.Customer;
 
+import jakarta.persistence.QueryHint;
+
 public interface CustomerRepository extends JpaRepository<Customer, Integer> {
+
+    List<Customer> findByIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select c from Customer c order by c.id")
+    Stream<Customer> streamAll();
 }
@@ -0,0 +1,53 @@
+package com.example.demo.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access to {@code idempotency_keys}. The primary key on (scope, owner, key) is what
+ * makes a replayed request fail to record a second response, so inserts are plain and
+ * the caller treats a duplicate key as "already done".
+ */
+@Repository
+public class IdempotencyKeyRepository {
+
+    /** What was recorded for a key: the request fingerprint and the response JSON, if any. */
+    public record StoredResponse(String requestHash, String responseBody) {}
+
+    private static final String INSERT_SQL =
+            "insert into idempotency_keys (scope, owner, idempotency_key, request_hash, response_body, created_at) "
+                    + "values (?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND_SQL =
+            "select request_hash, response_body from idempotency_keys where scope = ? and owner = ? and idempotency_key = ?";
+
+    // bounded so one purge statement never holds locks on a large part of the table
+    private static final String DELETE_OLDER_SQL = "delete from idempotency_keys where created_at < ? limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdempotencyKeyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /** Records the response in the caller's transaction; throws DuplicateKeyException if the key is taken. */
+    public void insert(String scope, String owner, String key, StoredResponse response) {
+        jdbcTemplate.update(INSERT_SQL, scope, owner, key, response.requestHash(), response.responseBody(),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public StoredResponse find(String scope, String owner, String key) {
+        List<StoredResponse> rows = jdbcTemplate.query(FIND_SQL,
+                (rs, n) -> new StoredResponse(rs.getString(1), rs.getString(2)), scope, owner, key);
+        return rows.isEmpty() ? null : rows.getFirst();
+    }
+
+    /** Deletes up to {@code limit} keys recorded before {@code cutoff}; returns how many went. */
+    public int deleteOlderThan(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_OLDER_SQL, Timestamp.valueOf(cutoff), limit);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.dto.PaymentRequest;
+
+/**
+ * JDBC batch inserts for bulk payment imports; see {@link ClaimBatchRepository}
+ * for why these bypass Hibernate.
+ */
+@Repository
+public class PaymentBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert into payments (customer_policy_id, amount, payment_date, payment_mode, payment_status) "
+                    + "values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeCounterRepository changeCounters;
+
+    public PaymentBatchRepository(JdbcTemplate jdbcTemplate, ChangeCounterRepository changeCounters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeCounters = changeCounters;
+    }
+
+    public void insertAll(List<PaymentRequest> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setInt(1, row.getCustomerPolicyId());
+            ps.setDouble(2, row.getAmount());
+            if (row.getPaymentDate() != null) {
+                ps.setDate(3, Date.valueOf(row.getPaymentDate()));
+            } else {
+                ps.setNull(3, Types.DATE);
+            }
+            ps.setString(4, row.getPaymentMode());
+            ps.setString(5, row.getPaymentStatus());
+        });
+        changeCounters.bump(ChangeCounterRepository.PAYMENTS);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.entity.PaymentImportJob;
+
+/**
+ * Job state changes that must not race another run of the same import are single
+ * conditional updates, so only one caller can win them.
+ */
+public interface PaymentImportJobRepository extends JpaRepository<PaymentImportJob, Integer> {
+
+    /**
+     * Marks a failed job, or one whose run stopped reporting progress before
+     * {@code staleBefore}, as RUNNING again. Returns 0 if another run holds it or it is done.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update PaymentImportJob j set j.status = 'RUNNING', j.lastError = null, j.updatedAt = :now "
+            + "where j.id = :id and (j.status = 'FAILED' or (j.status = 'RUNNING' and j.updatedAt < :staleBefore))")
+    int claimForResume(@Param("id") int id,
+                       @Param("now") LocalDateTime now,
+                       @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Moves the checkpoint from {@code from} to {@code to}. Returns 0 if another run already
+     * moved it, in which case the caller's chunk must roll back.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update PaymentImportJob j set j.linesCommitted = :to, j.rowsImported = j.rowsImported + :imported, "
+            + "j.rowsRejected = j.rowsRejected + :rejected, j.updatedAt = :now "
+            + "where j.id = :id and j.linesCommitted = :from")
+    int advanceCheckpoint(@Param("id") int id,
+                          @Param("from") long from,
+                          @Param("to") long to,
+                          @Param("imported") long imported,
+                          @Param("rejected") long rejected,
+                          @Param("now") LocalDateTime now);
+}
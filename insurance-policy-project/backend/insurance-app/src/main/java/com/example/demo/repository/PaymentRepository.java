@@ -1,7 +1,60 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.example.demo.dto.AggregateRow;
+import com.example.demo.dto.PaymentLine;
 import com.example.demo.entity.Payment;
 
+import jakarta.persistence.QueryHint;
+
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
+
+    @EntityGraph(attributePaths = {"customerPolicy", "customerPolicy.customer", "customerPolicy.policy"})
+    @Override
+    List<Payment> findAll();
+
+    // served by idx_payments_customer_policy_id
+    @EntityGraph(attributePaths = {"customerPolicy", "customerPolicy.customer", "customerPolicy.policy"})
+    List<Payment> findByCustomerPolicyIdOrderByIdAsc(int customerPolicyId);
+
+    @EntityGraph(attributePaths = {"customerPolicy", "customerPolicy.customer", "customerPolicy.policy"})
+    List<Payment> findByIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select p from Payment p left join fetch p.customerPolicy cp left join fetch cp.customer left join fetch cp.policy order by p.id")
+    Stream<Payment> streamAll();
+
+    // Dashboard aggregates: one GROUP BY each, so only the grouped figures leave the database.
+
+    @Query("select new com.example.demo.dto.AggregateRow('all', count(p), sum(p.amount), avg(p.amount)) from Payment p")
+    AggregateRow aggregateAll();
+
+    @Query("select new com.example.demo.dto.AggregateRow(p.paymentStatus, count(p), sum(p.amount), avg(p.amount)) from Payment p group by p.paymentStatus order by p.paymentStatus")
+    List<AggregateRow> aggregateByStatus();
+
+    @Query("select new com.example.demo.dto.AggregateRow(p.paymentMode, count(p), sum(p.amount), avg(p.amount)) from Payment p group by p.paymentMode order by p.paymentMode")
+    List<AggregateRow> aggregateByMode();
+
+    @Query("select new com.example.demo.dto.AggregateRow(pol.policyType, count(p), sum(p.amount), avg(p.amount)) from Payment p join p.customerPolicy cp join cp.policy pol group by pol.policyType order by pol.policyType")
+    List<AggregateRow> aggregateByPolicyType();
+
+    @Query("select new com.example.demo.dto.AggregateRow(year(p.paymentDate), month(p.paymentDate), count(p), sum(p.amount), avg(p.amount)) from Payment p "
+            + "group by year(p.paymentDate), month(p.paymentDate) order by year(p.paymentDate), month(p.paymentDate)")
+    List<AggregateRow> aggregateByMonth();
+
+    // all payments of a customer's holdings in one statement, served by idx_payments_customer_policy_id
+    @Query("select new com.example.demo.dto.PaymentLine(p.id, p.customerPolicy.id, p.amount, p.paymentDate, p.paymentMode, p.paymentStatus)"
+            + " from Payment p where p.customerPolicy.id in :ids order by p.id")
+    List<PaymentLine> findLinesByCustomerPolicyIds(@Param("ids") Collection<Integer> customerPolicyIds);
 }
@@ -1,7 +1,23 @@
 package com.example.demo.repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
 import com.example.demo.entity.Policy;
 
+import jakarta.persistence.QueryHint;
+
 public interface PolicyRepository extends JpaRepository<Policy, Integer> {
+
+    List<Policy> findByIdGreaterThanOrderByIdAsc(int id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select p from Policy p order by p.id")
+    Stream<Policy> streamAll();
 }
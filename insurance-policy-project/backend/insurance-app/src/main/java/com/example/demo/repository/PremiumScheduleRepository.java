@@ -0,0 +1,84 @@
+package com.example.demo.repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JDBC access for the premium renewal run. Holdings are read in primary-key order one
+ * chunk at a time, each with the PAID total from its summary row, and results are written
+ * back as one batched update per chunk. Going through JDBC keeps millions of rows out of
+ * the persistence context and leaves the holding's optimistic version alone, so a nightly
+ * run never conflicts with claims being raised.
+ */
+@Repository
+public class PremiumScheduleRepository {
+
+    /** One holding as the renewal run sees it. */
+    public record Row(int id, LocalDate startDate, LocalDate endDate, double premiumAmount,
+                      double totalPaid, LocalDate nextDueDate, String premiumStatus) {}
+
+    /** The derived schedule to store for one holding. */
+    public record Update(int id, LocalDate nextDueDate, String premiumStatus) {}
+
+    // keyset page within (afterId, upToId], served by the primary key
+    private static final String CHUNK_SQL =
+            "select cp.id, cp.start_date, cp.end_date, cp.premium_amount, coalesce(s.total_paid, 0) as total_paid, "
+                    + "cp.next_due_date, cp.premium_status from customer_policies cp "
+                    + "left join customer_policy_summary s on s.customer_policy_id = cp.id "
+                    + "where cp.id > ? and cp.id <= ? order by cp.id limit ?";
+
+    private static final String UPDATE_SQL =
+            "update customer_policies set next_due_date = ?, premium_status = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeCounterRepository changeCounters;
+
+    public PremiumScheduleRepository(JdbcTemplate jdbcTemplate, ChangeCounterRepository changeCounters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeCounters = changeCounters;
+    }
+
+    /** Lowest and highest holding id, or null when there are none. */
+    public int[] idRange() {
+        return jdbcTemplate.queryForObject("select min(id), max(id) from customer_policies", (rs, n) -> {
+            int min = rs.getInt(1);
+            return rs.wasNull() ? null : new int[] {min, rs.getInt(2)};
+        });
+    }
+
+    public List<Row> findChunk(int afterId, int upToId, int limit) {
+        return jdbcTemplate.query(CHUNK_SQL, (rs, n) -> new Row(
+                rs.getInt("id"),
+                toLocalDate(rs.getDate("start_date")),
+                toLocalDate(rs.getDate("end_date")),
+                rs.getDouble("premium_amount"),
+                rs.getDouble("total_paid"),
+                toLocalDate(rs.getDate("next_due_date")),
+                rs.getString("premium_status")),
+                afterId, upToId, limit);
+    }
+
+    /** Writes the updates as one JDBC batch, in the caller's transaction. */
+    public void updateAll(List<Update> updates) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, u) -> {
+            if (u.nextDueDate() != null) {
+                ps.setDate(1, Date.valueOf(u.nextDueDate()));
+            } else {
+                ps.setNull(1, Types.DATE);
+            }
+            ps.setString(2, u.premiumStatus());
+            ps.setInt(3, u.id());
+        });
+        // next due date and premium status are part of every response that embeds the holding
+        changeCounters.bump(ChangeCounterRepository.CUSTOMER_POLICIES);
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
@@ -1,57 +1,158 @@
 package com.example.demo.security;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 @Component
 public class JwtUtil {
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
+    static final String ROLE_CLAIM = "role";
+
+    private final long jwtExpirationMs;
+    private final Clock clock;
+
+    // Built once: the key and parser are immutable and safe to share across request threads.
+    private final SecretKey signingKey;
+    private final JwtParser parser;
 
-    @Value("${app.jwt.expirationMs}")
-    private long jwtExpirationMs;
+    // Keyed by SHA-256 of the token so raw bearer tokens are not retained; entries expire at the token's exp.
+    // Null when app.jwt.verifiedCacheSize is 0: every call then verifies the signature.
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    private byte[] signingKeyBytes() {
-        return jwtSecret.getBytes(StandardCharsets.UTF_8);
+    @Autowired
+    public JwtUtil(@Value("${app.jwt.secret}") String jwtSecret,
+                   @Value("${app.jwt.expirationMs}") long jwtExpirationMs,
+                   @Value("${app.jwt.verifiedCacheSize:10000}") long verifiedCacheSize) {
+        this(jwtSecret, jwtExpirationMs, verifiedCacheSize, Clock.systemUTC());
     }
 
-    public String generateToken(String email) {
-        Date now = new Date();
+    // Issuing, the parser's exp check and cache expiry all read the same clock.
+    JwtUtil(String jwtSecret, long jwtExpirationMs, long verifiedCacheSize, Clock clock) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.clock = clock;
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        // a size-0 Caffeine cache still admits entries until its asynchronous eviction runs
+        this.verifiedTokens = verifiedCacheSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .ticker(epochNanos(clock))
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    public String generateToken(String email, String role) {
+        Date now = Date.from(clock.instant());
         Date exp = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
                 .setSubject(email)
+                .claim(ROLE_CLAIM, role)
                 .setIssuedAt(now)
                 .setExpiration(exp)
-                .signWith(Keys.hmacShaKeyFor(signingKeyBytes()))
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Verifies the token's signature and expiry in a single parse and returns its
+     * subject, role and claims, or null if the token is invalid. Repeat calls for a token
+     * that already verified are answered from the cache until it expires.
+     */
+    public VerifiedToken parse(String token) {
+        String key = verifiedTokens != null ? fingerprint(token) : null;
+        VerifiedToken cached = key != null ? verifiedTokens.getIfPresent(key) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+
+        // tokens issued before the role claim existed fall back to the default role
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Date exp = claims.getExpiration();
+        if (exp == null) {
+            // never cache a token that has no expiry
+            return new VerifiedToken(claims.getSubject(), role, null, claims);
+        }
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), role, exp.toInstant(), claims);
+        if (key != null) {
+            verifiedTokens.put(key, verified);
+        }
+        return verified;
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(signingKeyBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        VerifiedToken verified = parse(token);
+        return verified != null ? verified.getSubject() : null;
     }
 
     public boolean validateToken(String token) {
+        return parse(token) != null;
+    }
+
+    private static String fingerprint(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(signingKeyBytes()))
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // the cache ticks in epoch nanoseconds, so a token's exp converts directly into its time left
+    private static Ticker epochNanos(Clock clock) {
+        return () -> toEpochNanos(clock.instant());
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, toEpochNanos(value.getExpiresAt()) - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
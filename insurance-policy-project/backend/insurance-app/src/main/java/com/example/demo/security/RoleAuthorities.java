@@ -0,0 +1,25 @@
+package com.example.demo.security;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Shared, immutable authority lists per role, so authenticating a request does
+ * not allocate a new authority collection every time.
+ */
+final class RoleAuthorities {
+
+    static final String DEFAULT_ROLE = "USER";
+
+    private static final ConcurrentMap<String, List<GrantedAuthority>> BY_ROLE = new ConcurrentHashMap<>();
+
+    private RoleAuthorities() {}
+
+    static List<GrantedAuthority> of(String role) {
+        return BY_ROLE.computeIfAbsent(role, r -> List.of(new SimpleGrantedAuthority("ROLE_" + r)));
+    }
+}
@@ -1,12 +1,14 @@
 package com.example.demo.security;
 
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -17,17 +19,28 @@ import java.util.List;
 public class SecurityConfig {
 
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthFilter jwtAuthFilter) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .cors(Customizer.withDefaults())
+            // JWT only: never create or consult an HTTP session
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(
                     "/api/auth/login",
                     "/api/auth/signup"
                 ).permitAll()
+                // liveness/readiness probes and the database health group stay anonymous;
+                // metrics and the Prometheus scrape need an ADMIN token
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
+                // recomputes every holding's summary in one statement; an operator action, not a user one
+                .requestMatchers(HttpMethod.POST, "/customer-policies/summaries/rebuild").hasRole("ADMIN")
+                // claims stored with a decided status skip adjudication, so only migrations may send them
+                .requestMatchers(HttpMethod.POST, "/claims/history").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
+            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
             // IMPORTANT: disable default login page
             .formLogin(form -> form.disable())
             .httpBasic(basic -> basic.disable());
@@ -35,7 +48,13 @@ public class SecurityConfig {
         return http.build();
     }
 
-
+    // JwtAuthFilter runs inside the security chain; stop Boot also registering it as a plain servlet filter
+    @Bean
+    FilterRegistrationBean<JwtAuthFilter> jwtAuthFilterRegistration(JwtAuthFilter jwtAuthFilter) {
+        FilterRegistrationBean<JwtAuthFilter> registration = new FilterRegistrationBean<>(jwtAuthFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
 
     @Bean
     CorsConfigurationSource corsConfigurationSource() {
@@ -0,0 +1,35 @@
+package com.example.demo.security;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Result of a successful signature and expiry check on a JWT. Instances are
+ * shared through the verified-token cache, so they must not be mutated.
+ */
+public final class VerifiedToken {
+
+    private final String subject;
+    private final String role;
+    private final List<GrantedAuthority> authorities;
+    private final Instant expiresAt;
+    private final Claims claims;
+
+    VerifiedToken(String subject, String role, Instant expiresAt, Claims claims) {
+        this.subject = subject;
+        this.role = (role == null || role.isBlank()) ? RoleAuthorities.DEFAULT_ROLE : role;
+        this.authorities = RoleAuthorities.of(this.role);
+        this.expiresAt = expiresAt;
+        this.claims = claims;
+    }
+
+    public String getSubject() { return subject; }
+    public String getRole() { return role; }
+    public List<GrantedAuthority> getAuthorities() { return authorities; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public Claims getClaims() { return claims; }
+}
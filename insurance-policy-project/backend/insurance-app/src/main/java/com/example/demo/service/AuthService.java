@@ -1,13 +1,15 @@
 package com.example.demo.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.example.demo.dto.AuthResponse;
 import com.example.demo.dto.LoginRequest;
 import com.example.demo.dto.SignupRequest;
 import com.example.demo.entity.AppUser;
+import com.example.demo.exception.ConflictException;
 import com.example.demo.repository.UserRepository;
 import com.example.demo.security.JwtUtil;
+import com.example.demo.security.PasswordHasher;
 import java.time.LocalDate;
 import java.time.Period;
 
@@ -15,18 +17,18 @@ import java.time.Period;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder encoder;
+    private final PasswordHasher hasher;
     private final JwtUtil jwtUtil;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder encoder, JwtUtil jwtUtil) {
+    public AuthService(UserRepository userRepository, PasswordHasher hasher, JwtUtil jwtUtil) {
         this.userRepository = userRepository;
-        this.encoder = encoder;
+        this.hasher = hasher;
         this.jwtUtil = jwtUtil;
     }
 
     public void signup(SignupRequest req) {
         if (userRepository.existsByEmail(req.getEmail())) {
-            throw new RuntimeException("Email already registered");
+            throw new ConflictException("Email already registered");
         }
         // age validation: user must be at least 18
         LocalDate dob = req.getDateOfBirth();
@@ -44,7 +46,7 @@ public class AuthService {
         //user.setFirstName(req.getFirstName());
         //user.setLastName(req.getLastName());
         user.setEmail(req.getEmail());
-        user.setPassword(encoder.encode(req.getPassword()));
+        user.setPassword(hasher.encode(req.getPassword()));
         user.setRole("USER");
        // user.setPhone(req.getPhone());
         //user.setDateOfBirth(dob);
@@ -53,14 +55,21 @@ public class AuthService {
         userRepository.save(user);
     }
 
-    public String login(LoginRequest req) {
+    public AuthResponse login(LoginRequest req) {
         AppUser user = userRepository.findByEmail(req.getEmail())
                 .orElseThrow(() -> new RuntimeException("Invalid email or password"));
 
-        if (!encoder.matches(req.getPassword(), user.getPassword())) {
+        if (!hasher.matches(req.getPassword(), user.getPassword())) {
             throw new RuntimeException("Invalid email or password");
         }
 
-        return jwtUtil.generateToken(user.getEmail());
+        // transparently move old hashes to the configured strength while we have the raw password
+        if (hasher.needsRehash(user.getPassword())) {
+            user.setPassword(hasher.encode(req.getPassword()));
+            userRepository.save(user);
+        }
+
+        String token = jwtUtil.generateToken(user.getEmail(), user.getRole());
+        return new AuthResponse(token, user.getEmail(), user.getRole(), user.getName());
     }
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.entity.Claim;
+import com.example.demo.entity.ClaimAdjudicationTask;
+import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.repository.ClaimAdjudicationTaskRepository;
+import com.example.demo.repository.ClaimRepository;
+import com.example.demo.repository.CustomerPolicyRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+/**
+ * Decides PENDING claims taken from {@code claim_adjudication_queue}. Intake only writes
+ * the claim and its queue row, so it stays fast under spikes; {@link #processDue()} is
+ * called by {@link ClaimAdjudicationWorkers} on every node and locks its batch with SKIP
+ * LOCKED and leases it, so adjudication scales out with the number of workers.
+ *
+ * <p>A claim is rejected when its date falls outside the holding's start/end window or
+ * when, added to the claims already approved on that holding, it exceeds the policy's
+ * coverage amount (if one is recorded); otherwise it is approved.
+ */
+@Service
+public class ClaimAdjudicationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClaimAdjudicationService.class);
+
+    static final String PENDING = "PENDING";
+    static final String UNDER_REVIEW = "UNDER_REVIEW";
+    static final String APPROVED = "APPROVED";
+    static final String REJECTED = "REJECTED";
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ClaimAdjudicationTaskRepository taskRepo;
+    private final ClaimRepository claimRepo;
+    private final CustomerPolicyRepository customerPolicyRepo;
+    private final CustomerPolicySummaryService summaryService;
+    private final CoverageLedger coverageLedger;
+    private final TransactionTemplate tx;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration lease;
+
+    public ClaimAdjudicationService(ClaimAdjudicationTaskRepository taskRepo,
+                                    ClaimRepository claimRepo,
+                                    CustomerPolicyRepository customerPolicyRepo,
+                                    CustomerPolicySummaryService summaryService,
+                                    CoverageLedger coverageLedger,
+                                    TransactionTemplate tx,
+                                    EntityManager entityManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.claims.adjudication.batch-size:20}") int batchSize,
+                                    @Value("${app.claims.adjudication.max-attempts:5}") int maxAttempts,
+                                    @Value("${app.claims.adjudication.retry-backoff-ms:30000}") long retryBackoffMs,
+                                    @Value("${app.claims.adjudication.lease-ms:300000}") long leaseMs) {
+        this.taskRepo = taskRepo;
+        this.claimRepo = claimRepo;
+        this.customerPolicyRepo = customerPolicyRepo;
+        this.summaryService = summaryService;
+        this.coverageLedger = coverageLedger;
+        this.tx = tx;
+        this.entityManager = entityManager;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.lease = Duration.ofMillis(leaseMs);
+    }
+
+    /** Queues a claim in the caller's transaction, so it is queued if and only if it commits. */
+    @Transactional
+    public void enqueue(int claimId) {
+        LocalDateTime now = LocalDateTime.now();
+        ClaimAdjudicationTask task = new ClaimAdjudicationTask();
+        task.setClaimId(claimId);
+        task.setAvailableAt(now);
+        task.setCreatedAt(now);
+        taskRepo.save(task);
+    }
+
+    /**
+     * Leases one batch of due tasks, then decides each claim and deletes its task in a
+     * transaction of its own. Returns the number of tasks leased, 0 when the queue had
+     * nothing due. A task whose transaction fails, at any point up to and including its
+     * commit, is the one pushed back; the others in the batch are unaffected.
+     */
+    public int processDue() {
+        List<Long> leased = tx.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = new ArrayList<>();
+            for (ClaimAdjudicationTask task : taskRepo.lockDue(now, Limit.of(batchSize))) {
+                // other pollers pass over the task until the lease ends, e.g. because this node died
+                task.setAvailableAt(now.plus(lease));
+                ids.add(task.getId());
+            }
+            return ids;
+        });
+        for (long taskId : leased) {
+            try {
+                String decision = tx.execute(status -> {
+                    ClaimAdjudicationTask task = entityManager.find(ClaimAdjudicationTask.class, taskId,
+                            LockModeType.PESSIMISTIC_WRITE);
+                    if (task == null) {
+                        // the lease ran out and another poller finished it
+                        return null;
+                    }
+                    String outcome = adjudicate(task.getClaimId());
+                    taskRepo.delete(task);
+                    return outcome;
+                });
+                if (decision != null) {
+                    count(decision);
+                }
+            } catch (RuntimeException e) {
+                recordFailure(taskId, e);
+            }
+        }
+        return leased.size();
+    }
+
+    /** Decides the claim; returns the decision, or null if it was no longer PENDING. */
+    private String adjudicate(int claimId) {
+        Claim claim = claimRepo.findById(claimId).orElse(null);
+        if (claim == null || !PENDING.equals(claim.getClaimStatus())) {
+            // withdrawn, or already decided by hand
+            return null;
+        }
+        CustomerPolicy cp = claim.getCustomerPolicy() == null ? null
+                : customerPolicyRepo.lockWithPolicy(claim.getCustomerPolicy().getId()).orElse(null);
+        String reason = cp == null ? "Claim has no customer policy" : rejectionReason(claim, cp);
+        String decision = reason == null ? APPROVED : REJECTED;
+
+        claim.setClaimStatus(decision);
+        if (cp != null) {
+            summaryService.recordClaimStatusChange(cp.getId(), claim.getClaimAmount(), PENDING, decision);
+            if (REJECTED.equals(decision)) {
+                // the rejected amount no longer counts against coverage: move the holding to a
+                // new version so every node's ledger reloads its total
+                entityManager.lock(cp, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+                coverageLedger.evictAfterCommit(cp.getId());
+            }
+        }
+        if (reason != null) {
+            logger.info("Claim {} rejected: {}", claimId, reason);
+        }
+        return decision;
+    }
+
+    /** Why the claim must be rejected, or null when it can be approved. */
+    private String rejectionReason(Claim claim, CustomerPolicy cp) {
+        if (claim.getClaimAmount() <= 0) {
+            return "Claim amount must be positive";
+        }
+        LocalDate incurred = claim.getClaimDate() != null ? claim.getClaimDate() : LocalDate.now();
+        if (cp.getStartDate() != null && incurred.isBefore(cp.getStartDate())) {
+            return "Claim date " + incurred + " is before the policy start " + cp.getStartDate();
+        }
+        if (cp.getEndDate() != null && incurred.isAfter(cp.getEndDate())) {
+            return "Claim date " + incurred + " is after the policy end " + cp.getEndDate();
+        }
+        double coverage = cp.getPolicy() != null ? cp.getPolicy().getCoverageAmount() : 0;
+        if (coverage <= 0) {
+            // no coverage recorded for the policy; nothing to check against
+            return null;
+        }
+        double approved = claimRepo.sumAmountByCustomerPolicyIdAndStatus(cp.getId(), APPROVED);
+        if (approved + claim.getClaimAmount() > coverage) {
+            return "Claim of " + claim.getClaimAmount() + " exceeds the remaining coverage of " + (coverage - approved);
+        }
+        return null;
+    }
+
+    private void recordFailure(long taskId, RuntimeException error) {
+        logger.warn("Adjudication task {} failed: {}", taskId, error.toString());
+        try {
+            tx.executeWithoutResult(status -> taskRepo.findById(taskId).ifPresent(task -> {
+                task.setAttempts(task.getAttempts() + 1);
+                String message = error.toString();
+                task.setLastError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+                if (task.getAttempts() < maxAttempts) {
+                    task.setAvailableAt(LocalDateTime.now().plus(retryBackoff.multipliedBy(task.getAttempts())));
+                    return;
+                }
+                // stop retrying and hand the claim to a person; PENDING and UNDER_REVIEW are both open
+                claimRepo.findById(task.getClaimId())
+                        .filter(claim -> PENDING.equals(claim.getClaimStatus()))
+                        .ifPresent(claim -> claim.setClaimStatus(UNDER_REVIEW));
+                taskRepo.delete(task);
+                count(UNDER_REVIEW);
+            }));
+        } catch (RuntimeException e) {
+            // the task keeps its old schedule and is simply retried on a later poll
+            logger.warn("Could not record failure of adjudication task {}: {}", taskId, e.getMessage());
+        }
+    }
+
+    private void count(String outcome) {
+        Counter.builder("claims.adjudicated")
+                .description("Claims decided by the adjudication workers")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
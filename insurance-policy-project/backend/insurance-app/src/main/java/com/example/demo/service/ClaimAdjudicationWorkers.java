@@ -0,0 +1,77 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the claim adjudication queue with {@code app.claims.adjudication.workers} threads.
+ * Each worker drains batches back to back while work is due and otherwise sleeps for the
+ * poll interval. Set the worker count to 0 to run a node as intake only. The pool is
+ * owned here rather than exposed as an Executor bean so it never displaces Boot's
+ * application task executor.
+ */
+@Component
+public class ClaimAdjudicationWorkers implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClaimAdjudicationWorkers.class);
+
+    private final ClaimAdjudicationService adjudicationService;
+    private final int workers;
+    private final Duration pollInterval;
+    private ThreadPoolTaskScheduler scheduler;
+    private volatile boolean running;
+
+    public ClaimAdjudicationWorkers(ClaimAdjudicationService adjudicationService,
+                                    @Value("${app.claims.adjudication.workers:2}") int workers,
+                                    @Value("${app.claims.adjudication.poll-interval-ms:500}") long pollIntervalMs) {
+        this.adjudicationService = adjudicationService;
+        this.workers = workers;
+        this.pollInterval = Duration.ofMillis(pollIntervalMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (workers <= 0) {
+            logger.info("Claim adjudication workers disabled on this node");
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(workers);
+        scheduler.setThreadNamePrefix("claim-adjudicator-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            scheduler.scheduleWithFixedDelay(this::drain, pollInterval);
+        }
+        logger.info("Started {} claim adjudication workers polling every {} ms", workers, pollInterval.toMillis());
+    }
+
+    void drain() {
+        try {
+            while (running && adjudicationService.processDue() > 0) {
+                // keep going while batches come back non-empty
+            }
+        } catch (RuntimeException e) {
+            // a failed poll (e.g. database briefly unavailable) is retried on the next tick
+            logger.warn("Claim adjudication poll failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+import com.example.demo.dto.AggregateReport;
+import com.example.demo.dto.ClaimBatchResult;
 import com.example.demo.dto.ClaimRequest;
-import com.example.demo.entity.Claim;
+import com.example.demo.dto.ClaimResponse;
+import com.example.demo.dto.CursorPage;
 
 public interface ClaimService {
-    Claim raiseClaim(ClaimRequest request);
-    List<Claim> getAllClaims();
-    List<Claim> getClaimsByCustomerPolicyId(int customerPolicyId);
+    ClaimResponse raiseClaim(ClaimRequest request);
+    List<ClaimBatchResult> raiseClaims(List<ClaimRequest> requests);
+    // migrated history: rows keep the status they were decided with; only PENDING ones are queued
+    List<ClaimBatchResult> importClaimHistory(List<ClaimRequest> requests);
+    List<ClaimResponse> getAllClaims();
+    List<ClaimResponse> getClaimsByCustomerPolicyId(int customerPolicyId);
+    CursorPage<ClaimResponse> getClaimsPage(int after, int size);
+    void streamAllClaims(Consumer<ClaimResponse> sink);
+    AggregateReport getClaimStats();
+    String getClaimsVersion();
 }
-
@@ -1,53 +1,248 @@
 package com.example.demo.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.demo.dto.AggregateReport;
+import com.example.demo.dto.AggregateRow;
+import com.example.demo.dto.ClaimBatchResult;
 import com.example.demo.dto.ClaimRequest;
+import com.example.demo.dto.ClaimResponse;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.entity.Claim;
 import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.entity.CustomerPolicySummary;
+import com.example.demo.repository.ChangeCounterRepository;
+import com.example.demo.repository.ClaimBatchRepository;
+import com.example.demo.repository.ClaimBatchRepository.NewClaim;
 import com.example.demo.repository.ClaimRepository;
 import com.example.demo.repository.CustomerPolicyRepository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
 @Service
 public class ClaimServiceImpl implements ClaimService {
 
+    static final int MAX_BATCH_ROWS = 10_000;
+    private static final int INSERT_CHUNK = 500;
+    private static final List<String> CLAIM_STATUSES = List.of(ClaimAdjudicationService.PENDING,
+            ClaimAdjudicationService.UNDER_REVIEW, ClaimAdjudicationService.APPROVED, ClaimAdjudicationService.REJECTED);
+
     private final ClaimRepository claimRepo;
+    private final ClaimBatchRepository claimBatchRepo;
     private final CustomerPolicyRepository customerPolicyRepo;
+    private final CustomerPolicySummaryService summaryService;
+    private final ClaimAdjudicationService adjudicationService;
+    private final CoverageLedger coverageLedger;
+    private final TransactionTemplate tx;
+    private final EntityManager entityManager;
+    private final ChangeCounterRepository changeCounters;
 
     public ClaimServiceImpl(ClaimRepository claimRepo,
-                            CustomerPolicyRepository customerPolicyRepo) {
+                            ClaimBatchRepository claimBatchRepo,
+                            CustomerPolicyRepository customerPolicyRepo,
+                            CustomerPolicySummaryService summaryService,
+                            ClaimAdjudicationService adjudicationService,
+                            CoverageLedger coverageLedger,
+                            TransactionTemplate tx,
+                            EntityManager entityManager,
+                            ChangeCounterRepository changeCounters) {
         this.claimRepo = claimRepo;
+        this.claimBatchRepo = claimBatchRepo;
         this.customerPolicyRepo = customerPolicyRepo;
+        this.summaryService = summaryService;
+        this.adjudicationService = adjudicationService;
+        this.coverageLedger = coverageLedger;
+        this.tx = tx;
+        this.entityManager = entityManager;
+        this.changeCounters = changeCounters;
     }
 
     @Override
-    public Claim raiseClaim(ClaimRequest request) {
-        CustomerPolicy cp = customerPolicyRepo.findById(request.getCustomerPolicyId()).orElse(null);
+    public ClaimResponse raiseClaim(ClaimRequest request) {
+        return OptimisticRetry.run(() -> tx.execute(status -> raiseClaimOnce(request)));
+    }
+
+    private ClaimResponse raiseClaimOnce(ClaimRequest request) {
+        // a negative claim would hand coverage back to the holding
+        if (request.getClaimAmount() <= 0) {
+            throw new IllegalArgumentException("claimAmount must be positive");
+        }
+        CustomerPolicy cp = customerPolicyRepo.findWithDetailsById(request.getCustomerPolicyId()).orElse(null);
         if (cp == null) return null;
+        lockForClaim(cp);
+        // a client cannot decide its own claim: every new claim waits for adjudication
+        String status = ClaimAdjudicationService.PENDING;
+        if (!reserveCoverage(cp, request.getClaimAmount(), status)) {
+            throw new IllegalArgumentException("Claim of " + request.getClaimAmount()
+                    + " exceeds the remaining coverage of customer policy " + cp.getId());
+        }
 
         Claim c = new Claim();
         c.setCustomerPolicy(cp);
         c.setClaimAmount(request.getClaimAmount());
         c.setClaimDate(request.getClaimDate());
-        c.setClaimStatus(request.getClaimStatus());
+        c.setClaimStatus(status);
         c.setDescription(request.getDescription());
 
-        return claimRepo.save(c);
+        Claim saved = claimRepo.save(c);
+        summaryService.recordClaim(cp.getId(), saved.getClaimAmount(), saved.getClaimStatus());
+        if (ClaimAdjudicationService.PENDING.equals(saved.getClaimStatus())) {
+            adjudicationService.enqueue(saved.getId());
+        }
+        return ClaimResponse.from(saved);
     }
 
     @Override
-    public List<Claim> getAllClaims() {
-        return claimRepo.findAll();
+    public List<ClaimBatchResult> raiseClaims(List<ClaimRequest> requests) {
+        if (requests.size() > MAX_BATCH_ROWS) {
+            throw new IllegalArgumentException("A claim batch may contain at most " + MAX_BATCH_ROWS + " rows");
+        }
+        return OptimisticRetry.run(() -> tx.execute(status -> raiseClaimsOnce(requests, false)));
+    }
+
+    @Override
+    public List<ClaimBatchResult> importClaimHistory(List<ClaimRequest> requests) {
+        if (requests.size() > MAX_BATCH_ROWS) {
+            throw new IllegalArgumentException("A claim batch may contain at most " + MAX_BATCH_ROWS + " rows");
+        }
+        return OptimisticRetry.run(() -> tx.execute(status -> raiseClaimsOnce(requests, true)));
+    }
+
+    // keepStatus: rows carry the status they were decided with elsewhere (migrated history)
+    private List<ClaimBatchResult> raiseClaimsOnce(List<ClaimRequest> requests, boolean keepStatus) {
+        // one query resolves, and version-locks, every referenced customer policy
+        Set<Integer> referenced = new HashSet<>();
+        for (ClaimRequest r : requests) {
+            if (r != null) referenced.add(r.getCustomerPolicyId());
+        }
+        Map<Integer, CustomerPolicy> known = new HashMap<>();
+        if (!referenced.isEmpty()) {
+            for (CustomerPolicy cp : customerPolicyRepo.findWithPolicyByIdIn(referenced)) {
+                lockForClaim(cp);
+                known.put(cp.getId(), cp);
+            }
+        }
+
+        ClaimBatchResult[] results = new ClaimBatchResult[requests.size()];
+        List<NewClaim> accepted = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ClaimRequest r = requests.get(i);
+            if (r == null) {
+                results[i] = ClaimBatchResult.rejected(i, "Empty row");
+            } else if (!known.containsKey(r.getCustomerPolicyId())) {
+                results[i] = ClaimBatchResult.rejected(i, "Unknown customerPolicyId " + r.getCustomerPolicyId());
+            } else if (r.getClaimAmount() <= 0) {
+                results[i] = ClaimBatchResult.rejected(i, "claimAmount must be positive");
+            } else if (keepStatus && (r.getClaimStatus() == null || !CLAIM_STATUSES.contains(r.getClaimStatus()))) {
+                results[i] = ClaimBatchResult.rejected(i, "claimStatus must be one of " + CLAIM_STATUSES);
+            } else {
+                // the request is left as sent, so a retried run sees the same input
+                String status = keepStatus ? r.getClaimStatus() : ClaimAdjudicationService.PENDING;
+                if (!reserveCoverage(known.get(r.getCustomerPolicyId()), r.getClaimAmount(), status)) {
+                    results[i] = ClaimBatchResult.rejected(i, "claimAmount exceeds the remaining coverage");
+                } else {
+                    accepted.add(new NewClaim(r, status));
+                    acceptedIndexes.add(i);
+                }
+            }
+        }
+
+        for (int from = 0; from < accepted.size(); from += INSERT_CHUNK) {
+            int to = Math.min(from + INSERT_CHUNK, accepted.size());
+            int[] ids = claimBatchRepo.insertAll(accepted.subList(from, to));
+            List<Integer> pending = new ArrayList<>();
+            for (int j = 0; j < ids.length; j++) {
+                int index = acceptedIndexes.get(from + j);
+                results[index] = ClaimBatchResult.created(index, ids[j]);
+                if (ClaimAdjudicationService.PENDING.equals(accepted.get(from + j).status())) {
+                    pending.add(ids[j]);
+                }
+            }
+            if (!pending.isEmpty()) {
+                claimBatchRepo.enqueueForAdjudication(pending);
+            }
+        }
+        summaryService.recordClaims(accepted);
+        return Arrays.asList(results);
+    }
+
+    // bumps the holding's version on commit, so concurrent claims checked against the same
+    // committed coverage total cannot both commit
+    private void lockForClaim(CustomerPolicy cp) {
+        entityManager.lock(cp, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+
+    /**
+     * Checks a claim against the holding's remaining coverage in the in-memory ledger and
+     * reserves it until the transaction completes. Rejected claims use no coverage.
+     */
+    private boolean reserveCoverage(CustomerPolicy cp, double amount, String status) {
+        if (ClaimAdjudicationService.REJECTED.equals(status)) {
+            return true;
+        }
+        double coverage = cp.getPolicy() != null ? cp.getPolicy().getCoverageAmount() : 0;
+        return coverageLedger.tryReserve(cp.getId(), cp.getVersion(), amount, coverage, () -> {
+            CustomerPolicySummary summary = summaryService.getSummary(cp.getId());
+            return summary != null ? summary.getTotalClaimed() : claimRepo.sumClaimedByCustomerPolicyId(cp.getId());
+        });
     }
 
     @Override
-    public List<Claim> getClaimsByCustomerPolicyId(int customerPolicyId) {
-        return claimRepo.findAll()
+    public List<ClaimResponse> getAllClaims() {
+        return claimRepo.findAll().stream().map(ClaimResponse::from).toList();
+    }
+
+    @Override
+    public List<ClaimResponse> getClaimsByCustomerPolicyId(int customerPolicyId) {
+        return claimRepo.findByCustomerPolicyIdOrderByIdAsc(customerPolicyId)
+                .stream()
+                .map(ClaimResponse::from)
+                .toList();
+    }
+
+    @Override
+    public CursorPage<ClaimResponse> getClaimsPage(int after, int size) {
+        return CursorPage.fetch(size, limit -> claimRepo.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit))
                 .stream()
-                .filter(cl -> cl.getCustomerPolicy() != null && cl.getCustomerPolicy().getId() == customerPolicyId)
-                .collect(Collectors.toList());
+                .map(ClaimResponse::from)
+                .toList(), ClaimResponse::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllClaims(Consumer<ClaimResponse> sink) {
+        EntityStreams.drain(claimRepo.streamAll().map(ClaimResponse::from), entityManager, sink);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AggregateReport getClaimStats() {
+        Map<String, List<AggregateRow>> groups = new LinkedHashMap<>();
+        groups.put("status", claimRepo.aggregateByStatus());
+        groups.put("policyType", claimRepo.aggregateByPolicyType());
+        groups.put("month", claimRepo.aggregateByMonth());
+        return new AggregateReport(claimRepo.aggregateAll(), groups);
+    }
+
+    @Override
+    public String getClaimsVersion() {
+        // each claim embeds its holding with the customer and policy, so their changes count too
+        return changeCounters.versionKey(ChangeCounterRepository.CLAIMS, ChangeCounterRepository.CUSTOMER_POLICIES,
+                ChangeCounterRepository.CUSTOMERS, ChangeCounterRepository.POLICIES);
     }
 }
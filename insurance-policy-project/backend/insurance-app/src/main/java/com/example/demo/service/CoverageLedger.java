@@ -0,0 +1,151 @@
+package com.example.demo.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Running claimed totals per customer policy, held in memory so a new claim is checked
+ * against {@code Policy.coverageAmount} without summing {@code claims}. Each entry records
+ * the {@code CustomerPolicy} version its committed total was read at; a claim arriving with
+ * a newer version (another node claimed in between) reloads the total first. Updates go
+ * through {@link ConcurrentHashMap#compute}, which locks only the entry's bin, so claims on
+ * different policies never contend.
+ *
+ * <p>The ledger is a fast path, not the arbiter: claim transactions force-increment the
+ * policy's version, so two claims that both passed the check against the same committed
+ * state cannot both commit.
+ */
+@Component
+public class CoverageLedger {
+
+    /** committed: non-rejected claims as of {@code version}; inFlight: reserved by open transactions here. */
+    private record Entry(long version, double committed, double inFlight) {}
+
+    /** What one transaction holds on one policy: the version it read and the amount reserved. */
+    private record Reservation(long version, double amount) {
+        Reservation plus(Reservation other) {
+            return new Reservation(version, amount + other.amount);
+        }
+    }
+
+    private enum Outcome { RESERVED, OVER_COVERAGE, EVICTED }
+
+    private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Reserves {@code amount} against {@code coverage} for the rest of the current transaction.
+     * The reservation becomes part of the committed total if the transaction commits and is
+     * released if it rolls back. A coverage of 0 or less means none is recorded and is never
+     * enforced. Returns false, reserving nothing, when the claim would exceed the coverage.
+     *
+     * @param version the policy version read, and force-incremented, by the calling transaction
+     * @param committedClaims loads the committed total; called only on a miss or a newer version
+     */
+    public boolean tryReserve(int customerPolicyId, long version, double amount, double coverage,
+                              DoubleSupplier committedClaims) {
+        if (coverage <= 0) {
+            return true;
+        }
+        while (true) {
+            Entry current = entries.get(customerPolicyId);
+            if (current == null || current.version() < version) {
+                // loaded outside compute() so a database read never holds the bin lock
+                Entry fresh = new Entry(version, committedClaims.getAsDouble(), 0);
+                entries.merge(customerPolicyId, fresh, (old, loaded) -> old.version() >= loaded.version() ? old
+                        : new Entry(loaded.version(), loaded.committed(), old.inFlight()));
+            }
+            Outcome[] outcome = {Outcome.EVICTED};
+            entries.computeIfPresent(customerPolicyId, (id, e) -> {
+                if (e.committed() + e.inFlight() + amount > coverage) {
+                    outcome[0] = Outcome.OVER_COVERAGE;
+                    return e;
+                }
+                outcome[0] = Outcome.RESERVED;
+                return new Entry(e.version(), e.committed(), e.inFlight() + amount);
+            });
+            if (outcome[0] == Outcome.RESERVED) {
+                holdUntilCompletion(customerPolicyId, new Reservation(version, amount));
+                return true;
+            }
+            if (outcome[0] == Outcome.OVER_COVERAGE) {
+                return false;
+            }
+            // evicted between load and check: load again
+        }
+    }
+
+    /** Current committed plus in-flight total, or null when the policy is not cached. */
+    public Double claimed(int customerPolicyId) {
+        Entry e = entries.get(customerPolicyId);
+        return e == null ? null : e.committed() + e.inFlight();
+    }
+
+    /** Drops a policy's entry, e.g. after its committed total changed outside the claim path. */
+    public void evict(int customerPolicyId) {
+        entries.remove(customerPolicyId);
+    }
+
+    /** Evicts once the current transaction has committed, or immediately outside one. */
+    public void evictAfterCommit(int customerPolicyId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(customerPolicyId);
+                }
+            });
+        } else {
+            evict(customerPolicyId);
+        }
+    }
+
+    /**
+     * Adds to the current transaction's reservations, which are settled together once it
+     * completes, so a transaction claiming several times on one policy is settled against
+     * the single version its commit adds.
+     */
+    @SuppressWarnings("unchecked")
+    private void holdUntilCompletion(int customerPolicyId, Reservation reservation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // no transaction to wait for and no version bump
+            entries.computeIfPresent(customerPolicyId, (k, e) -> new Entry(e.version(),
+                    e.committed() + reservation.amount(), Math.max(0, e.inFlight() - reservation.amount())));
+            return;
+        }
+        Map<Integer, Reservation> held = (Map<Integer, Reservation>) TransactionSynchronizationManager.getResource(this);
+        if (held == null) {
+            Map<Integer, Reservation> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CoverageLedger.this);
+                    created.forEach((id, r) -> entries.computeIfPresent(id, (k, e) ->
+                            status == STATUS_COMMITTED ? committed(e, r) : released(e, r)));
+                }
+            });
+            held = created;
+        }
+        held.merge(customerPolicyId, reservation, Reservation::plus);
+    }
+
+    private static Entry committed(Entry e, Reservation r) {
+        double inFlight = Math.max(0, e.inFlight() - r.amount());
+        if (e.version() > r.version()) {
+            // reloaded from the database after this commit landed, so the total already includes it
+            return new Entry(e.version(), e.committed(), inFlight);
+        }
+        // the commit force-incremented the version read, so the entry moves to the next one
+        return new Entry(r.version() + 1, e.committed() + r.amount(), inFlight);
+    }
+
+    private static Entry released(Entry e, Reservation r) {
+        return new Entry(e.version(), e.committed(), Math.max(0, e.inFlight() - r.amount()));
+    }
+}
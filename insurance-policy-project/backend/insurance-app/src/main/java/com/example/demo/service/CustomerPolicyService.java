@@ -1,12 +1,16 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 import com.example.demo.dto.AssignPolicyRequest;
-import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.CustomerPolicyResponse;
 
 public interface CustomerPolicyService {
-    CustomerPolicy assignPolicy(AssignPolicyRequest request);
-    List<CustomerPolicy> getAllAssignments();
-    CustomerPolicy getById(int id);
+    CustomerPolicyResponse assignPolicy(AssignPolicyRequest request);
+    List<CustomerPolicyResponse> getAllAssignments();
+    CustomerPolicyResponse getById(int id);
+    CursorPage<CustomerPolicyResponse> getAssignmentsPage(int after, int size);
+    void streamAllAssignments(Consumer<CustomerPolicyResponse> sink);
+    String getAssignmentsVersion();
 }
-
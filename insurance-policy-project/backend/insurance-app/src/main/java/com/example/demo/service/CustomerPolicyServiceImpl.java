@@ -1,34 +1,52 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.dto.AssignPolicyRequest;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.CustomerPolicyResponse;
 import com.example.demo.entity.Customer;
 import com.example.demo.entity.CustomerPolicy;
 import com.example.demo.entity.Policy;
+import com.example.demo.repository.ChangeCounterRepository;
 import com.example.demo.repository.CustomerPolicyRepository;
 import com.example.demo.repository.CustomerRepository;
 import com.example.demo.repository.PolicyRepository;
 
+import jakarta.persistence.EntityManager;
+
 @Service
 public class CustomerPolicyServiceImpl implements CustomerPolicyService {
 
     private final CustomerPolicyRepository customerPolicyRepo;
     private final CustomerRepository customerRepo;
     private final PolicyRepository policyRepo;
+    private final CustomerPolicySummaryService summaryService;
+    private final EntityManager entityManager;
+    private final ChangeCounterRepository changeCounters;
 
     public CustomerPolicyServiceImpl(CustomerPolicyRepository customerPolicyRepo,
                                      CustomerRepository customerRepo,
-                                     PolicyRepository policyRepo) {
+                                     PolicyRepository policyRepo,
+                                     CustomerPolicySummaryService summaryService,
+                                     EntityManager entityManager,
+                                     ChangeCounterRepository changeCounters) {
         this.customerPolicyRepo = customerPolicyRepo;
         this.customerRepo = customerRepo;
         this.policyRepo = policyRepo;
+        this.summaryService = summaryService;
+        this.entityManager = entityManager;
+        this.changeCounters = changeCounters;
     }
 
     @Override
-    public CustomerPolicy assignPolicy(AssignPolicyRequest request) {
+    @Transactional
+    public CustomerPolicyResponse assignPolicy(AssignPolicyRequest request) {
 
         Customer customer = customerRepo.findById(request.getCustomerId()).orElse(null);
         Policy policy = policyRepo.findById(request.getPolicyId()).orElse(null);
@@ -45,17 +63,39 @@ public class CustomerPolicyServiceImpl implements CustomerPolicyService {
         cp.setStatus(request.getStatus());
         cp.setPremiumAmount(request.getPremiumAmount());
 
-        return customerPolicyRepo.save(cp);
+        CustomerPolicy saved = customerPolicyRepo.save(cp);
+        summaryService.createFor(saved.getId());
+        return CustomerPolicyResponse.from(saved);
     }
 
     @Override
-    public List<CustomerPolicy> getAllAssignments() {
-        return customerPolicyRepo.findAll();
+    public List<CustomerPolicyResponse> getAllAssignments() {
+        return customerPolicyRepo.findAll().stream().map(CustomerPolicyResponse::from).toList();
     }
 
     @Override
-    public CustomerPolicy getById(int id) {
-        return customerPolicyRepo.findById(id).orElse(null);
+    public CustomerPolicyResponse getById(int id) {
+        return customerPolicyRepo.findWithDetailsById(id).map(CustomerPolicyResponse::from).orElse(null);
+    }
+
+    @Override
+    public CursorPage<CustomerPolicyResponse> getAssignmentsPage(int after, int size) {
+        return CursorPage.fetch(size, limit -> customerPolicyRepo.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit))
+                .stream()
+                .map(CustomerPolicyResponse::from)
+                .toList(), CustomerPolicyResponse::getId);
     }
-}
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllAssignments(Consumer<CustomerPolicyResponse> sink) {
+        EntityStreams.drain(customerPolicyRepo.streamAll().map(CustomerPolicyResponse::from), entityManager, sink);
+    }
+
+    @Override
+    public String getAssignmentsVersion() {
+        // holdings embed their customer and policy
+        return changeCounters.versionKey(ChangeCounterRepository.CUSTOMER_POLICIES,
+                ChangeCounterRepository.CUSTOMERS, ChangeCounterRepository.POLICIES);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.repository.CustomerPolicyRepository;
+import com.example.demo.repository.CustomerPolicySummaryRepository;
+
+/**
+ * Populates {@code customer_policy_summary} on the first start after it is introduced,
+ * when there are customer policies but no summaries yet.
+ */
+@Component
+public class CustomerPolicySummaryBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerPolicySummaryBackfill.class);
+
+    private final CustomerPolicySummaryService summaryService;
+    private final CustomerPolicySummaryRepository summaryRepo;
+    private final CustomerPolicyRepository customerPolicyRepo;
+
+    public CustomerPolicySummaryBackfill(CustomerPolicySummaryService summaryService,
+                                         CustomerPolicySummaryRepository summaryRepo,
+                                         CustomerPolicyRepository customerPolicyRepo) {
+        this.summaryService = summaryService;
+        this.summaryRepo = summaryRepo;
+        this.customerPolicyRepo = customerPolicyRepo;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (summaryRepo.count() == 0 && customerPolicyRepo.count() > 0) {
+                summaryService.rebuild();
+            }
+        } catch (RuntimeException e) {
+            // summaries can be rebuilt on demand; never fail startup over it
+            logger.warn("Customer policy summary backfill skipped: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.dto.PaymentRequest;
+import com.example.demo.entity.CustomerPolicySummary;
+import com.example.demo.repository.ClaimBatchRepository.NewClaim;
+import com.example.demo.repository.CustomerPolicySummaryRepository;
+
+/**
+ * Maintains {@code customer_policy_summary}. The record* methods join the caller's
+ * transaction, so a summary delta commits or rolls back with the payment or claim
+ * that caused it. {@link #rebuild()} recomputes everything from the source tables
+ * for backfill or to repair drift.
+ */
+@Service
+public class CustomerPolicySummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerPolicySummaryService.class);
+
+    static final String PAID = "PAID";
+    static final String REJECTED = "REJECTED";
+    static final List<String> OPEN_CLAIM_STATUSES = List.of("PENDING", "UNDER_REVIEW");
+
+    private final CustomerPolicySummaryRepository summaryRepo;
+
+    public CustomerPolicySummaryService(CustomerPolicySummaryRepository summaryRepo) {
+        this.summaryRepo = summaryRepo;
+    }
+
+    public CustomerPolicySummary getSummary(int customerPolicyId) {
+        return summaryRepo.findById(customerPolicyId).orElse(null);
+    }
+
+    @Transactional
+    public void createFor(int customerPolicyId) {
+        summaryRepo.applyDelta(customerPolicyId, 0, 0, null, 0);
+    }
+
+    @Transactional
+    public void recordPayment(int customerPolicyId, double amount, LocalDate paymentDate, String paymentStatus) {
+        if (PAID.equals(paymentStatus)) {
+            summaryRepo.applyDelta(customerPolicyId, amount, 0, paymentDate, 0);
+        }
+    }
+
+    @Transactional
+    public void recordClaim(int customerPolicyId, double claimAmount, String claimStatus) {
+        double claimed = claimedAmount(claimAmount, claimStatus);
+        int open = openCount(claimStatus);
+        if (claimed != 0 || open != 0) {
+            summaryRepo.applyDelta(customerPolicyId, 0, claimed, null, open);
+        }
+    }
+
+    /** Moves an existing claim's contribution from its old status to its new one. */
+    @Transactional
+    public void recordClaimStatusChange(int customerPolicyId, double claimAmount, String fromStatus, String toStatus) {
+        double claimed = claimedAmount(claimAmount, toStatus) - claimedAmount(claimAmount, fromStatus);
+        int open = openCount(toStatus) - openCount(fromStatus);
+        if (claimed != 0 || open != 0) {
+            summaryRepo.applyDelta(customerPolicyId, 0, claimed, null, open);
+        }
+    }
+
+    /** Folds a batch into one delta per customer policy. */
+    @Transactional
+    public void recordPayments(List<PaymentRequest> payments) {
+        Map<Integer, Delta> deltas = new HashMap<>();
+        for (PaymentRequest p : payments) {
+            if (PAID.equals(p.getPaymentStatus())) {
+                deltas.computeIfAbsent(p.getCustomerPolicyId(), k -> new Delta()).addPayment(p.getAmount(), p.getPaymentDate());
+            }
+        }
+        deltas.forEach((id, d) -> summaryRepo.applyDelta(id, d.paid, 0, d.lastPaymentDate, 0));
+    }
+
+    /** Folds a batch into one delta per customer policy. */
+    @Transactional
+    public void recordClaims(List<NewClaim> claims) {
+        Map<Integer, Delta> deltas = new HashMap<>();
+        for (NewClaim c : claims) {
+            Delta d = deltas.computeIfAbsent(c.request().getCustomerPolicyId(), k -> new Delta());
+            d.claimed += claimedAmount(c.request().getClaimAmount(), c.status());
+            d.openClaims += openCount(c.status());
+        }
+        deltas.forEach((id, d) -> {
+            if (d.claimed != 0 || d.openClaims != 0) {
+                summaryRepo.applyDelta(id, 0, d.claimed, null, d.openClaims);
+            }
+        });
+    }
+
+    /**
+     * Replaces every summary with values recomputed from payments and claims. Runs in
+     * one transaction; deltas committed while it runs may be overwritten, so schedule
+     * it outside peak write traffic.
+     */
+    @Transactional
+    public int rebuild() {
+        long start = System.nanoTime();
+        summaryRepo.deleteAllRows();
+        int rows = summaryRepo.insertRecomputed();
+        logger.info("Rebuilt {} customer policy summaries in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private static double claimedAmount(double claimAmount, String claimStatus) {
+        return REJECTED.equals(claimStatus) ? 0 : claimAmount;
+    }
+
+    private static int openCount(String claimStatus) {
+        return OPEN_CLAIM_STATUSES.contains(claimStatus) ? 1 : 0;
+    }
+
+    private static final class Delta {
+        double paid;
+        double claimed;
+        int openClaims;
+        LocalDate lastPaymentDate;
+
+        void addPayment(double amount, LocalDate date) {
+            paid += amount;
+            if (date != null && (lastPaymentDate == null || date.isAfter(lastPaymentDate))) {
+                lastPaymentDate = date;
+            }
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.entity.Customer;
+
+/**
+ * Embedded Lucene index over customer name, email and phone. Documents are written
+ * after the surrounding transaction commits, and {@link #search} answers with ranked
+ * customer ids: exact word matches first, then prefixes, then typo-tolerant (edit
+ * distance 1-2) matches on names. Kept in memory unless {@code app.search.index-path}
+ * points at a directory, in which case the index survives restarts.
+ * <p>
+ * A {@link #rebuild} writes into a scratch directory and swaps the result in at the end.
+ * Incremental updates that commit meanwhile are held back and applied on top of the new
+ * contents, so searches never see a half-built index and no customer is indexed twice.
+ */
+@Component
+public class CustomerSearchIndex implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerSearchIndex.class);
+
+    static final String ID = "id";
+    static final String NAME = "name";
+    static final String EMAIL = "email";
+    static final String EMAIL_EXACT = "email_exact";
+    static final String PHONE = "phone";
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_PHONE_PREFIX_LENGTH = 3;
+
+    private final Analyzer analyzer = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+    private final Path indexPath;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Object writeLock = new Object();
+    // non-null while a rebuild runs: incremental updates wait here to be applied after the swap
+    private List<IndexAction> deferred;
+
+    public CustomerSearchIndex(@Value("${app.search.index-path:}") String indexPath) throws IOException {
+        this.indexPath = indexPath.isBlank() ? null : Path.of(indexPath);
+        this.directory = this.indexPath == null ? new ByteBuffersDirectory() : FSDirectory.open(this.indexPath);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /** Indexes (or re-indexes) the customer once the current transaction commits. */
+    public void indexAfterCommit(Customer customer) {
+        Document doc = toDocument(customer);
+        String id = doc.get(ID);
+        afterCommit(() -> apply(() -> {
+            writer.updateDocument(new Term(ID, id), doc);
+            searcherManager.maybeRefreshBlocking();
+        }));
+    }
+
+    public void removeAfterCommit(int customerId) {
+        afterCommit(() -> apply(() -> {
+            writer.deleteDocuments(new Term(ID, String.valueOf(customerId)));
+            searcherManager.maybeRefreshBlocking();
+        }));
+    }
+
+    private void apply(IndexAction action) throws IOException {
+        synchronized (writeLock) {
+            if (deferred != null) {
+                deferred.add(action);
+                return;
+            }
+            action.run();
+        }
+    }
+
+    /** Ranked ids of customers matching every word of {@code text}; empty for a blank query. */
+    public List<Integer> search(String text, int limit) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            return List.of();
+        }
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
+            List<Integer> ids = new ArrayList<>(hits.length);
+            for (ScoreDoc hit : hits) {
+                ids.add(Integer.parseInt(searcher.storedFields().document(hit.doc).get(ID)));
+            }
+            return ids;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (searcher != null) {
+                release(searcher);
+            }
+        }
+    }
+
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    /**
+     * Replaces the index contents with {@code customers}. The new contents are built aside
+     * and swapped in with one commit, after which updates held back during the build are
+     * applied; if the build fails the previous contents stay in place.
+     */
+    public void rebuild(Iterable<List<Customer>> batches) {
+        synchronized (writeLock) {
+            if (deferred != null) {
+                throw new IllegalStateException("Customer search index rebuild already in progress");
+            }
+            deferred = new ArrayList<>();
+        }
+        long start = System.nanoTime();
+        Path scratchPath = indexPath == null ? null : indexPath.resolveSibling(indexPath.getFileName() + ".rebuild");
+        try {
+            deleteScratch(scratchPath);
+            try (Directory scratch = scratchPath == null ? new ByteBuffersDirectory() : FSDirectory.open(scratchPath)) {
+                long count = 0;
+                try (IndexWriter builder = new IndexWriter(scratch, new IndexWriterConfig(analyzer)
+                        .setOpenMode(IndexWriterConfig.OpenMode.CREATE))) {
+                    for (List<Customer> batch : batches) {
+                        for (Customer c : batch) {
+                            builder.addDocument(toDocument(c));
+                        }
+                        count += batch.size();
+                    }
+                }
+                synchronized (writeLock) {
+                    writer.deleteAll();
+                    writer.addIndexes(scratch);
+                    applyDeferred();
+                    writer.commit();
+                    searcherManager.maybeRefreshBlocking();
+                }
+                logger.info("Indexed {} customers for search in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            synchronized (writeLock) {
+                // after a failed build the updates still belong on the old contents
+                applyDeferred();
+            }
+            try {
+                deleteScratch(scratchPath);
+            } catch (IOException e) {
+                logger.warn("Could not remove search index scratch directory {}: {}", scratchPath, e.getMessage());
+            }
+        }
+    }
+
+    // caller holds writeLock
+    private void applyDeferred() {
+        if (deferred == null) return;
+        List<IndexAction> held = deferred;
+        deferred = null;
+        for (IndexAction action : held) {
+            try {
+                action.run();
+            } catch (IOException e) {
+                logger.warn("Customer search index update failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static void deleteScratch(Path scratchPath) throws IOException {
+        if (scratchPath == null || !Files.isDirectory(scratchPath)) return;
+        try (var files = Files.list(scratchPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(scratchPath);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    Query buildQuery(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        int clauses = 0;
+        for (String token : tokens(text)) {
+            BooleanQuery.Builder any = new BooleanQuery.Builder();
+            any.add(new BoostQuery(new TermQuery(new Term(NAME, token)), 4f), Occur.SHOULD);
+            any.add(new BoostQuery(new TermQuery(new Term(EMAIL, token)), 3f), Occur.SHOULD);
+            if (token.length() >= MIN_PREFIX_LENGTH) {
+                any.add(new BoostQuery(new PrefixQuery(new Term(NAME, token)), 2f), Occur.SHOULD);
+                any.add(new PrefixQuery(new Term(EMAIL, token)), Occur.SHOULD);
+            }
+            int edits = token.length() >= 6 ? 2 : token.length() >= 3 ? 1 : 0;
+            if (edits > 0) {
+                any.add(new FuzzyQuery(new Term(NAME, token), edits, 1), Occur.SHOULD);
+            }
+            all.add(any.build(), Occur.MUST);
+            clauses++;
+        }
+
+        // whole-value matches that the word split would lose
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (clauses > 0) {
+            query.add(all.build(), Occur.SHOULD);
+        }
+        String lower = text.trim().toLowerCase(Locale.ROOT);
+        if (lower.length() >= MIN_PREFIX_LENGTH) {
+            query.add(new BoostQuery(new PrefixQuery(new Term(EMAIL_EXACT, lower)), 5f), Occur.SHOULD);
+        }
+        String digits = digits(text);
+        if (digits.length() >= MIN_PHONE_PREFIX_LENGTH) {
+            query.add(new BoostQuery(new PrefixQuery(new Term(PHONE, digits)), 5f), Occur.SHOULD);
+        }
+        BooleanQuery built = query.build();
+        return built.clauses().isEmpty() ? null : built;
+    }
+
+    private List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream ts = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = ts.addAttribute(CharTermAttribute.class);
+            ts.reset();
+            while (ts.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            ts.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private static Document toDocument(Customer c) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(c.getId()), Field.Store.YES));
+        doc.add(new TextField(NAME, nullToEmpty(c.getFirstName()) + " " + nullToEmpty(c.getLastName()), Field.Store.NO));
+        if (c.getEmail() != null) {
+            doc.add(new TextField(EMAIL, c.getEmail(), Field.Store.NO));
+            doc.add(new StringField(EMAIL_EXACT, c.getEmail().toLowerCase(Locale.ROOT), Field.Store.NO));
+        }
+        if (c.getPhone() != null) {
+            doc.add(new StringField(PHONE, digits(c.getPhone()), Field.Store.NO));
+        }
+        return doc;
+    }
+
+    private static String digits(String s) {
+        StringBuilder b = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch >= '0' && ch <= '9') b.append(ch);
+        }
+        return b.toString();
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface IndexAction {
+        void run() throws IOException;
+    }
+
+    private static void afterCommit(IndexAction action) {
+        Runnable task = () -> {
+            try {
+                action.run();
+            } catch (IOException e) {
+                // the database write already committed; a rebuild brings the index back in line
+                logger.warn("Customer search index update failed: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
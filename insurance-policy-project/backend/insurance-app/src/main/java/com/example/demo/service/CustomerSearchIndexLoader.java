@@ -0,0 +1,74 @@
+package com.example.demo.service;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.entity.Customer;
+import com.example.demo.repository.CustomerRepository;
+
+/**
+ * Builds the customer search index at startup when it does not match the table (always,
+ * for the in-memory index). Customers are read in keyset-paged batches so memory stays
+ * flat however large the table is.
+ */
+@Component
+public class CustomerSearchIndexLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerSearchIndexLoader.class);
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final CustomerSearchIndex index;
+    private final CustomerRepository repo;
+
+    public CustomerSearchIndexLoader(CustomerSearchIndex index, CustomerRepository repo) {
+        this.index = index;
+        this.repo = repo;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIfStale() {
+        try {
+            long customers = repo.count();
+            if (index.size() != customers) {
+                reload();
+            }
+        } catch (RuntimeException e) {
+            // search degrades to empty results; never fail startup over it
+            logger.warn("Customer search index load skipped: {}", e.getMessage());
+        }
+    }
+
+    public void reload() {
+        index.rebuild(() -> new Iterator<List<Customer>>() {
+            private int after = 0;
+            private List<Customer> next = fetch();
+
+            private List<Customer> fetch() {
+                return repo.findByIdGreaterThanOrderByIdAsc(after, Limit.of(BATCH_SIZE));
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !next.isEmpty();
+            }
+
+            @Override
+            public List<Customer> next() {
+                if (next.isEmpty()) throw new NoSuchElementException();
+                List<Customer> batch = next;
+                after = batch.get(batch.size() - 1).getId();
+                next = batch.size() < BATCH_SIZE ? List.of() : fetch();
+                return batch;
+            }
+        });
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.CustomerOverview;
 import com.example.demo.entity.Customer;
 
 public interface CustomerService {
@@ -8,5 +11,9 @@ public interface CustomerService {
     List<Customer> getAllCustomers();
     Customer getCustomerById(int id);
     void deleteCustomer(int id);
+    CursorPage<Customer> getCustomersPage(int after, int size);
+    void streamAllCustomers(Consumer<Customer> sink);
+    List<Customer> searchCustomers(String query, int limit);
+    String getCustomersVersion();
+    CustomerOverview getCustomerOverview(int id);
 }
-
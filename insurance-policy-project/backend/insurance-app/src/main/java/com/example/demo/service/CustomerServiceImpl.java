@@ -1,24 +1,61 @@
 package com.example.demo.service;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.example.demo.dto.ClaimLine;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.CustomerOverview;
+import com.example.demo.dto.HoldingOverview;
+import com.example.demo.dto.PaymentLine;
 import com.example.demo.entity.Customer;
+import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.repository.ChangeCounterRepository;
+import com.example.demo.repository.ClaimRepository;
+import com.example.demo.repository.CustomerPolicyRepository;
 import com.example.demo.repository.CustomerRepository;
+import com.example.demo.repository.PaymentRepository;
+
+import jakarta.persistence.EntityManager;
 
 @Service
 @Transactional
 public class CustomerServiceImpl implements CustomerService {
 
+    static final int MAX_SEARCH_RESULTS = 100;
+
     private final CustomerRepository repo;
+    private final CustomerPolicyRepository customerPolicyRepo;
+    private final ClaimRepository claimRepo;
+    private final PaymentRepository paymentRepo;
+    private final CustomerSearchIndex searchIndex;
+    private final EntityManager entityManager;
+    private final ChangeCounterRepository changeCounters;
 
-    public CustomerServiceImpl(CustomerRepository repo) {
+    public CustomerServiceImpl(CustomerRepository repo, CustomerPolicyRepository customerPolicyRepo,
+                               ClaimRepository claimRepo, PaymentRepository paymentRepo,
+                               CustomerSearchIndex searchIndex, EntityManager entityManager,
+                               ChangeCounterRepository changeCounters) {
         this.repo = repo;
+        this.customerPolicyRepo = customerPolicyRepo;
+        this.claimRepo = claimRepo;
+        this.paymentRepo = paymentRepo;
+        this.searchIndex = searchIndex;
+        this.entityManager = entityManager;
+        this.changeCounters = changeCounters;
     }
 
     @Override
     public Customer createCustomer(Customer customer) {
-        return repo.save(customer);
+        Customer saved = repo.save(customer);
+        searchIndex.indexAfterCommit(saved);
+        return saved;
     }
 
     @Override
@@ -34,5 +71,62 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     public void deleteCustomer(int id) {
         repo.deleteById(id);
+        searchIndex.removeAfterCommit(id);
+    }
+
+    @Override
+    public CursorPage<Customer> getCustomersPage(int after, int size) {
+        return CursorPage.fetch(size, limit -> repo.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit)), Customer::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllCustomers(Consumer<Customer> sink) {
+        EntityStreams.drain(repo.streamAll(), entityManager, sink);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Customer> searchCustomers(String query, int limit) {
+        List<Integer> ids = searchIndex.search(query, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // keep the index's relevance order
+        Map<Integer, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) rank.put(ids.get(i), i);
+        return repo.findAllById(ids).stream()
+                .sorted(Comparator.comparing(c -> rank.get(c.getId())))
+                .toList();
+    }
+
+    @Override
+    public String getCustomersVersion() {
+        return changeCounters.versionKey(ChangeCounterRepository.CUSTOMERS);
+    }
+
+    // four statements however many policies the customer holds: customer, holdings with
+    // their policy, then every claim and every payment of those holdings in one IN query each
+    @Override
+    @Transactional(readOnly = true)
+    public CustomerOverview getCustomerOverview(int id) {
+        Customer customer = repo.findById(id).orElse(null);
+        if (customer == null) {
+            return null;
+        }
+        List<CustomerPolicy> holdings = customerPolicyRepo.findByCustomerIdOrderByIdAsc(id);
+        if (holdings.isEmpty()) {
+            return new CustomerOverview(customer, List.of());
+        }
+        List<Integer> holdingIds = holdings.stream().map(CustomerPolicy::getId).toList();
+        Map<Integer, List<ClaimLine>> claims = claimRepo.findLinesByCustomerPolicyIds(holdingIds).stream()
+                .collect(Collectors.groupingBy(ClaimLine::getCustomerPolicyId));
+        Map<Integer, List<PaymentLine>> payments = paymentRepo.findLinesByCustomerPolicyIds(holdingIds).stream()
+                .collect(Collectors.groupingBy(PaymentLine::getCustomerPolicyId));
+        return new CustomerOverview(customer, holdings.stream()
+                .map(cp -> HoldingOverview.of(cp,
+                        claims.getOrDefault(cp.getId(), List.of()),
+                        payments.getOrDefault(cp.getId(), List.of())))
+                .toList());
     }
 }
@@ -0,0 +1,30 @@
+package com.example.demo.service;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Drains a cursor-backed repository stream, clearing the persistence context
+ * periodically so an export of the whole table does not pile up managed entities.
+ */
+final class EntityStreams {
+
+    private static final int CLEAR_EVERY = 500;
+
+    private EntityStreams() {}
+
+    static <T> void drain(Stream<T> rows, EntityManager entityManager, Consumer<? super T> sink) {
+        try (rows) {
+            int seen = 0;
+            for (Iterator<T> it = rows.iterator(); it.hasNext(); ) {
+                sink.accept(it.next());
+                if (++seen % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
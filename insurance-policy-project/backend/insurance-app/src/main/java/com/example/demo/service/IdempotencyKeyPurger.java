@@ -0,0 +1,90 @@
+package com.example.demo.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.repository.IdempotencyKeyRepository;
+
+/**
+ * Deletes {@code idempotency_keys} rows older than {@code app.idempotency.retention-hours}
+ * on {@code app.idempotency.purge-cron}, hourly by default; a client retrying after that
+ * long is treated as sending a new request. Rows go in short batches, each its own
+ * statement, so a large backlog never becomes one long delete. Set the cron to
+ * {@code -} to leave a node out; purges on several nodes only repeat each other.
+ */
+@Component
+public class IdempotencyKeyPurger implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeyPurger.class);
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final IdempotencyKeyRepository keyRepo;
+    private final Duration retention;
+    private final String cron;
+    private ThreadPoolTaskScheduler scheduler;
+
+    public IdempotencyKeyPurger(IdempotencyKeyRepository keyRepo,
+                                @Value("${app.idempotency.retention-hours:24}") long retentionHours,
+                                @Value("${app.idempotency.purge-cron:0 15 * * * *}") String cron) {
+        this.keyRepo = keyRepo;
+        this.retention = Duration.ofHours(retentionHours);
+        this.cron = cron;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (ScheduledTaskRegistrar.CRON_DISABLED.equals(cron)) {
+            logger.info("Idempotency key purge disabled on this node");
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("idempotency-purge-");
+        scheduler.initialize();
+        scheduler.schedule(this::purgeQuietly, new CronTrigger(cron));
+        logger.info("Idempotency keys older than {} purged on '{}'", retention, cron);
+    }
+
+    /** Deletes every key recorded more than the retention before {@code now}; returns the count. */
+    public long purge(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(retention);
+        long deleted = 0;
+        int batch;
+        do {
+            batch = keyRepo.deleteOlderThan(cutoff, BATCH_SIZE);
+            deleted += batch;
+        } while (batch == BATCH_SIZE);
+        return deleted;
+    }
+
+    void purgeQuietly() {
+        try {
+            long deleted = purge(LocalDateTime.now());
+            if (deleted > 0) {
+                logger.info("Purged {} idempotency keys", deleted);
+            }
+        } catch (RuntimeException e) {
+            // whatever is left goes on the next run
+            logger.warn("Idempotency key purge failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.repository.IdempotencyKeyRepository;
+import com.example.demo.repository.IdempotencyKeyRepository.StoredResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Applies a write at most once per {@code Idempotency-Key}. The write and the record of
+ * its response commit in one transaction, so either both exist or neither does; a retry
+ * of a committed request gets the original response back byte for byte, marked with
+ * {@code Idempotent-Replayed: true}. Replays are answered from a bounded cache first and
+ * from {@code idempotency_keys} after eviction or on another node.
+ * <p>
+ * Keys are scoped to the endpoint and the authenticated user. Reusing a key for a
+ * different request body is refused, and a write that fails records nothing, so the
+ * client may retry it with the same key.
+ */
+@Service
+public class IdempotentRequests {
+
+    public static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private record CacheKey(String scope, String owner, String key) {}
+
+    private final IdempotencyKeyRepository keyRepo;
+    private final TransactionTemplate tx;
+    private final JsonMapper jsonMapper;
+    private final Cache responses;
+
+    public IdempotentRequests(IdempotencyKeyRepository keyRepo,
+                              TransactionTemplate tx,
+                              JsonMapper jsonMapper,
+                              CacheManager cacheManager) {
+        this.keyRepo = keyRepo;
+        this.tx = tx;
+        this.jsonMapper = jsonMapper;
+        this.responses = cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS);
+    }
+
+    /**
+     * Runs {@code write} unless {@code key} already recorded a response for this scope and
+     * user, in which case that response is returned instead. {@code write} joins the
+     * transaction opened here, and the whole unit is retried when it loses an optimistic
+     * version check.
+     */
+    public ResponseEntity<String> execute(String scope, String key, Object request, Supplier<?> write) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String owner = currentOwner();
+        CacheKey cacheKey = new CacheKey(scope, owner, key);
+        String requestHash = fingerprint(request);
+
+        StoredResponse stored = responses.get(cacheKey, StoredResponse.class);
+        if (stored == null) {
+            try {
+                stored = OptimisticRetry.run(() -> tx.execute(status -> {
+                    Object result = write.get();
+                    StoredResponse response = new StoredResponse(requestHash,
+                            result != null ? jsonMapper.writeValueAsString(result) : null);
+                    keyRepo.insert(scope, owner, key, response);
+                    return response;
+                }));
+                responses.put(cacheKey, stored);
+                return respond(stored, false);
+            } catch (DuplicateKeyException e) {
+                // a concurrent request with the same key committed first; ours rolled back
+                stored = keyRepo.find(scope, owner, key);
+                if (stored == null) {
+                    throw new OptimisticLockingFailureException(HEADER + " " + key + " is in use by another request", e);
+                }
+                responses.put(cacheKey, stored);
+            }
+        }
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IllegalArgumentException(HEADER + " " + key + " was already used for a different request");
+        }
+        return respond(stored, true);
+    }
+
+    private ResponseEntity<String> respond(StoredResponse stored, boolean replayed) {
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok();
+        if (replayed) {
+            ok.header(REPLAYED_HEADER, "true");
+        }
+        // a write that found nothing to act on (e.g. unknown customer policy) answered with an empty body
+        return stored.responseBody() == null ? ok.build()
+                : ok.contentType(MediaType.APPLICATION_JSON).body(stored.responseBody());
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(jsonMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String currentOwner() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getName() != null ? auth.getName() : "";
+    }
+}
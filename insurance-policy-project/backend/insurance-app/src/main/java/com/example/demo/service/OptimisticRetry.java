@@ -0,0 +1,32 @@
+package com.example.demo.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Reruns a unit of work that lost an optimistic version check, up to three attempts in
+ * all. The work must open and commit its own transaction: when the caller already has
+ * one open, the conflict only surfaces at that caller's commit, so the work runs once
+ * and the caller (see {@link IdempotentRequests}) is the one that retries.
+ */
+final class OptimisticRetry {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private OptimisticRetry() {}
+
+    static <T> T run(Supplier<T> attempt) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return attempt.get();
+        }
+        for (int i = 1; ; i++) {
+            try {
+                return attempt.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (i >= MAX_ATTEMPTS) throw e;
+            }
+        }
+    }
+}
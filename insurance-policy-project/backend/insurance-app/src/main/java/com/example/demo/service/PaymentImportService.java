@@ -0,0 +1,269 @@
+package com.example.demo.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.PaymentImportResult;
+import com.example.demo.dto.PaymentRequest;
+import com.example.demo.entity.PaymentImportJob;
+import com.example.demo.exception.ConflictException;
+import com.example.demo.repository.CustomerPolicyRepository;
+import com.example.demo.repository.PaymentBatchRepository;
+import com.example.demo.repository.PaymentImportJobRepository;
+
+/**
+ * Streams a settlement CSV ({@code customerPolicyId,amount,paymentDate,paymentMode,paymentStatus},
+ * optional header line) into {@code payments}. The file is read line by line and written in
+ * chunks; each chunk's inserts and the job checkpoint commit together, so a failed import
+ * resumes after the last committed line without duplicating rows. A resume first claims
+ * the job with a conditional update and every chunk moves the checkpoint only from the
+ * value it started at, so two resumes of one job cannot both write a chunk.
+ */
+@Service
+public class PaymentImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentImportService.class);
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+    private static final int LOG_EVERY_CHUNKS = 100;
+    // a RUNNING job that has not committed a chunk for this long is taken to have died with its node
+    private static final Duration STALE_RUN = Duration.ofMinutes(10);
+
+    private final PaymentImportJobRepository jobRepo;
+    private final PaymentBatchRepository paymentBatchRepo;
+    private final CustomerPolicyRepository customerPolicyRepo;
+    private final CustomerPolicySummaryService summaryService;
+    private final TransactionTemplate tx;
+
+    public PaymentImportService(PaymentImportJobRepository jobRepo,
+                                PaymentBatchRepository paymentBatchRepo,
+                                CustomerPolicyRepository customerPolicyRepo,
+                                CustomerPolicySummaryService summaryService,
+                                TransactionTemplate tx) {
+        this.jobRepo = jobRepo;
+        this.paymentBatchRepo = paymentBatchRepo;
+        this.customerPolicyRepo = customerPolicyRepo;
+        this.summaryService = summaryService;
+        this.tx = tx;
+    }
+
+    /**
+     * Imports the CSV. With {@code resumeJobId} the same file is re-read and every line
+     * up to that job's checkpoint is skipped.
+     */
+    public PaymentImportResult importCsv(InputStream csv, String sourceName, Integer resumeJobId) {
+        PaymentImportJob job = resumeJobId != null ? resume(resumeJobId) : start(sourceName);
+        if (PaymentImportJob.COMPLETED.equals(job.getStatus())) {
+            return toResult(job, 0, 0, List.of());
+        }
+
+        long startNanos = System.nanoTime();
+        long checkpoint = job.getLinesCommitted();
+        long processedThisRun = 0;
+        int chunks = 0;
+        List<String> rejections = new ArrayList<>();
+        Chunk chunk = new Chunk();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            long lineNo = 0;
+            boolean first = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (first) {
+                    first = false;
+                    if (isHeader(line)) continue;
+                }
+                if (line.isBlank()) continue;
+                lineNo++;
+                if (lineNo <= checkpoint) continue;
+
+                chunk.add(lineNo, line);
+                if (chunk.size() == CHUNK_SIZE) {
+                    processedThisRun += flush(job.getId(), checkpoint, chunk, rejections);
+                    checkpoint = chunk.lastLineNumber();
+                    chunk = new Chunk();
+                    if (++chunks % LOG_EVERY_CHUNKS == 0) {
+                        logger.info("Payment import {}: {} rows this run, {} rows/s",
+                                job.getId(), processedThisRun, rate(processedThisRun, startNanos));
+                    }
+                }
+            }
+            if (chunk.size() > 0) {
+                processedThisRun += flush(job.getId(), checkpoint, chunk, rejections);
+            }
+            job = finish(job.getId(), PaymentImportJob.COMPLETED, null);
+        } catch (ConflictException e) {
+            // another run owns the job now; its status is that run's to record
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Payment import {} failed after {} rows this run: {}", job.getId(), processedThisRun, e.toString());
+            job = finish(job.getId(), PaymentImportJob.FAILED, e.getMessage());
+        }
+
+        long elapsedMs = (System.nanoTime() - startNanos) / 1_000_000;
+        logger.info("Payment import {} {}: {} rows in {} ms ({} rows/s)",
+                job.getId(), job.getStatus(), processedThisRun, elapsedMs, rate(processedThisRun, startNanos));
+        return toResult(job, elapsedMs, rate(processedThisRun, startNanos), rejections);
+    }
+
+    public PaymentImportResult getJob(int jobId) {
+        return jobRepo.findById(jobId).map(job -> toResult(job, 0, 0, List.of())).orElse(null);
+    }
+
+    private PaymentImportJob start(String sourceName) {
+        PaymentImportJob job = new PaymentImportJob();
+        job.setSourceName(sourceName);
+        job.setStatus(PaymentImportJob.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getStartedAt());
+        return jobRepo.save(job);
+    }
+
+    private PaymentImportJob resume(int jobId) {
+        return tx.execute(s -> {
+            LocalDateTime now = LocalDateTime.now();
+            int claimed = jobRepo.claimForResume(jobId, now, now.minus(STALE_RUN));
+            PaymentImportJob job = jobRepo.findById(jobId)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown import job " + jobId));
+            if (claimed == 0 && !PaymentImportJob.COMPLETED.equals(job.getStatus())) {
+                throw new ConflictException("Import job " + jobId + " is already running");
+            }
+            return job;
+        });
+    }
+
+    private PaymentImportJob finish(int jobId, String status, String error) {
+        return tx.execute(s -> {
+            PaymentImportJob job = jobRepo.findById(jobId).orElseThrow();
+            job.setStatus(status);
+            job.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            job.setUpdatedAt(LocalDateTime.now());
+            return job;
+        });
+    }
+
+    /** Writes one chunk and advances the checkpoint in the same transaction; returns lines handled. */
+    private int flush(int jobId, long checkpoint, Chunk chunk, List<String> rejections) {
+        Set<Integer> known = new HashSet<>(customerPolicyRepo.findExistingIds(chunk.customerPolicyIds()));
+
+        List<PaymentRequest> accepted = new ArrayList<>(chunk.size());
+        List<String> rejected = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            PaymentRequest row = chunk.rows.get(i);
+            String error = chunk.errors.get(i);
+            if (error == null && !known.contains(row.getCustomerPolicyId())) {
+                error = "unknown customerPolicyId " + row.getCustomerPolicyId();
+            }
+            if (error == null) {
+                accepted.add(row);
+            } else {
+                rejected.add("line " + chunk.lineNumbers.get(i) + ": " + error);
+            }
+        }
+
+        tx.executeWithoutResult(s -> {
+            if (!accepted.isEmpty()) {
+                paymentBatchRepo.insertAll(accepted);
+                summaryService.recordPayments(accepted);
+            }
+            if (jobRepo.advanceCheckpoint(jobId, checkpoint, chunk.lastLineNumber(),
+                    accepted.size(), rejected.size(), LocalDateTime.now()) == 0) {
+                throw new ConflictException("Import job " + jobId + " was advanced by another run");
+            }
+        });
+
+        for (String r : rejected) {
+            if (rejections.size() >= MAX_REPORTED_REJECTIONS) break;
+            rejections.add(r);
+        }
+        return chunk.size();
+    }
+
+    private static boolean isHeader(String line) {
+        String trimmed = line.stripLeading();
+        return !trimmed.isEmpty() && !Character.isDigit(trimmed.charAt(0));
+    }
+
+    private static double rate(long rows, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return seconds > 0 ? Math.round(rows / seconds * 10) / 10.0 : 0;
+    }
+
+    private static PaymentImportResult toResult(PaymentImportJob job, long elapsedMs, double rowsPerSecond,
+                                                List<String> rejections) {
+        return new PaymentImportResult(job.getId(), job.getStatus(), job.getLinesCommitted(), job.getRowsImported(),
+                job.getRowsRejected(), elapsedMs, rowsPerSecond, job.getLastError(), rejections);
+    }
+
+    /** Parsed lines awaiting write; a row with a non-null error is rejected as-is. */
+    private static final class Chunk {
+
+        private final List<Long> lineNumbers = new ArrayList<>(CHUNK_SIZE);
+        private final List<PaymentRequest> rows = new ArrayList<>(CHUNK_SIZE);
+        private final List<String> errors = new ArrayList<>(CHUNK_SIZE);
+
+        void add(long lineNo, String line) {
+            lineNumbers.add(lineNo);
+            PaymentRequest row = null;
+            String error = null;
+            try {
+                row = parse(line);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                error = e.getMessage();
+            }
+            rows.add(row);
+            errors.add(error);
+        }
+
+        int size() {
+            return lineNumbers.size();
+        }
+
+        long lastLineNumber() {
+            return lineNumbers.get(lineNumbers.size() - 1);
+        }
+
+        Set<Integer> customerPolicyIds() {
+            Set<Integer> ids = new HashSet<>();
+            for (PaymentRequest row : rows) {
+                if (row != null) ids.add(row.getCustomerPolicyId());
+            }
+            return ids;
+        }
+
+        private static PaymentRequest parse(String line) {
+            String[] f = line.split(",", -1);
+            if (f.length != 5) {
+                throw new IllegalArgumentException("expected 5 fields but found " + f.length);
+            }
+            PaymentRequest row = new PaymentRequest();
+            row.setCustomerPolicyId(Integer.parseInt(f[0].trim()));
+            double amount = Double.parseDouble(f[1].trim());
+            if (!(amount > 0) || Double.isInfinite(amount)) {
+                throw new IllegalArgumentException("amount must be a positive number but was " + f[1].trim());
+            }
+            row.setAmount(amount);
+            row.setPaymentDate(f[2].isBlank() ? null : LocalDate.parse(f[2].trim()));
+            row.setPaymentMode(f[3].trim());
+            row.setPaymentStatus(f[4].trim());
+            return row;
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+import com.example.demo.dto.AggregateReport;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.PaymentRequest;
-import com.example.demo.entity.Payment;
+import com.example.demo.dto.PaymentResponse;
 
 public interface PaymentService {
-    Payment makePayment(PaymentRequest request);
-    List<Payment> getAllPayments();
-    List<Payment> getPaymentsByCustomerPolicyId(int customerPolicyId);
+    PaymentResponse makePayment(PaymentRequest request);
+    List<PaymentResponse> getAllPayments();
+    List<PaymentResponse> getPaymentsByCustomerPolicyId(int customerPolicyId);
+    CursorPage<PaymentResponse> getPaymentsPage(int after, int size);
+    void streamAllPayments(Consumer<PaymentResponse> sink);
+    AggregateReport getPaymentStats();
+    String getPaymentsVersion();
 }
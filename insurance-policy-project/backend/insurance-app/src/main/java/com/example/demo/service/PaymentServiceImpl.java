@@ -1,31 +1,57 @@
 package com.example.demo.service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.demo.dto.AggregateReport;
+import com.example.demo.dto.AggregateRow;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.PaymentRequest;
+import com.example.demo.dto.PaymentResponse;
 import com.example.demo.entity.CustomerPolicy;
 import com.example.demo.entity.Payment;
+import com.example.demo.repository.ChangeCounterRepository;
 import com.example.demo.repository.CustomerPolicyRepository;
 import com.example.demo.repository.PaymentRepository;
 
+import jakarta.persistence.EntityManager;
+
 @Service
 public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentRepository paymentRepo;
     private final CustomerPolicyRepository customerPolicyRepo;
+    private final CustomerPolicySummaryService summaryService;
+    private final EntityManager entityManager;
+    private final ChangeCounterRepository changeCounters;
 
     public PaymentServiceImpl(PaymentRepository paymentRepo,
-                              CustomerPolicyRepository customerPolicyRepo) {
+                              CustomerPolicyRepository customerPolicyRepo,
+                              CustomerPolicySummaryService summaryService,
+                              EntityManager entityManager,
+                              ChangeCounterRepository changeCounters) {
         this.paymentRepo = paymentRepo;
         this.customerPolicyRepo = customerPolicyRepo;
+        this.summaryService = summaryService;
+        this.entityManager = entityManager;
+        this.changeCounters = changeCounters;
     }
 
     @Override
-    public Payment makePayment(PaymentRequest request) {
-        CustomerPolicy cp = customerPolicyRepo.findById(request.getCustomerPolicyId()).orElse(null);
+    @Transactional
+    public PaymentResponse makePayment(PaymentRequest request) {
+        // same rule as the CSV import: a negative payment would lower the holding's paid total
+        double amount = request.getAmount();
+        if (!(amount > 0) || Double.isInfinite(amount)) {
+            throw new IllegalArgumentException("amount must be a positive number but was " + amount);
+        }
+        CustomerPolicy cp = customerPolicyRepo.findWithDetailsById(request.getCustomerPolicyId()).orElse(null);
         if (cp == null) return null;
 
         Payment p = new Payment();
@@ -35,19 +61,53 @@ public class PaymentServiceImpl implements PaymentService {
         p.setPaymentMode(request.getPaymentMode());
         p.setPaymentStatus(request.getPaymentStatus());
 
-        return paymentRepo.save(p);
+        Payment saved = paymentRepo.save(p);
+        summaryService.recordPayment(cp.getId(), saved.getAmount(), saved.getPaymentDate(), saved.getPaymentStatus());
+        return PaymentResponse.from(saved);
     }
 
     @Override
-    public List<Payment> getAllPayments() {
-        return paymentRepo.findAll();
+    public List<PaymentResponse> getAllPayments() {
+        return paymentRepo.findAll().stream().map(PaymentResponse::from).toList();
     }
 
     @Override
-    public List<Payment> getPaymentsByCustomerPolicyId(int customerPolicyId) {
-        return paymentRepo.findAll()
+    public List<PaymentResponse> getPaymentsByCustomerPolicyId(int customerPolicyId) {
+        return paymentRepo.findByCustomerPolicyIdOrderByIdAsc(customerPolicyId)
                 .stream()
-                .filter(p -> p.getCustomerPolicy() != null && p.getCustomerPolicy().getId() == customerPolicyId)
-                .collect(Collectors.toList());
+                .map(PaymentResponse::from)
+                .toList();
+    }
+
+    @Override
+    public CursorPage<PaymentResponse> getPaymentsPage(int after, int size) {
+        return CursorPage.fetch(size, limit -> paymentRepo.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit))
+                .stream()
+                .map(PaymentResponse::from)
+                .toList(), PaymentResponse::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllPayments(Consumer<PaymentResponse> sink) {
+        EntityStreams.drain(paymentRepo.streamAll().map(PaymentResponse::from), entityManager, sink);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AggregateReport getPaymentStats() {
+        Map<String, List<AggregateRow>> groups = new LinkedHashMap<>();
+        groups.put("status", paymentRepo.aggregateByStatus());
+        groups.put("mode", paymentRepo.aggregateByMode());
+        groups.put("policyType", paymentRepo.aggregateByPolicyType());
+        groups.put("month", paymentRepo.aggregateByMonth());
+        return new AggregateReport(paymentRepo.aggregateAll(), groups);
+    }
+
+    @Override
+    public String getPaymentsVersion() {
+        // each payment embeds its holding with the customer and policy, so their changes count too
+        return changeCounters.versionKey(ChangeCounterRepository.PAYMENTS, ChangeCounterRepository.CUSTOMER_POLICIES,
+                ChangeCounterRepository.CUSTOMERS, ChangeCounterRepository.POLICIES);
     }
 }
@@ -0,0 +1,47 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.entity.Policy;
+
+/**
+ * Loads the policy catalogue into the caches once the application is up, so the
+ * first page views after a deploy do not all miss and hit the database together.
+ */
+@Component
+public class PolicyCacheWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(PolicyCacheWarmer.class);
+
+    private final PolicyService policyService;
+    private final CacheManager cacheManager;
+
+    public PolicyCacheWarmer(PolicyService policyService, CacheManager cacheManager) {
+        this.policyService = policyService;
+        this.cacheManager = cacheManager;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            List<Policy> policies = policyService.getAllPolicies();
+            Cache byId = cacheManager.getCache(CacheConfig.POLICY_BY_ID);
+            if (byId != null) {
+                policies.forEach(p -> byId.put(p.getId(), p));
+            }
+            logger.info("Policy cache warmed with {} policies", policies.size());
+        } catch (RuntimeException e) {
+            // a cold cache only costs latency; never fail startup over it
+            logger.warn("Policy cache warm-up skipped: {}", e.getMessage());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.entity.Policy;
 
 public interface PolicyService {
@@ -8,4 +10,7 @@ public interface PolicyService {
     List<Policy> getAllPolicies();
     Policy getPolicyById(int id);
     void deletePolicy(int id);
+    CursorPage<Policy> getPoliciesPage(int after, int size);
+    void streamAllPolicies(Consumer<Policy> sink);
+    String getPoliciesVersion();
 }
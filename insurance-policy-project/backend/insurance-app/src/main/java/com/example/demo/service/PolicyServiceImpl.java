@@ -1,37 +1,92 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import com.example.demo.config.CacheConfig;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.entity.Policy;
+import com.example.demo.repository.ChangeCounterRepository;
 import com.example.demo.repository.PolicyRepository;
 
+import jakarta.persistence.EntityManager;
+
 @Service
 public class PolicyServiceImpl implements PolicyService {
 
+    /** The whole catalogue and the change marker it was read at, cached and evicted as one. */
+    private record Catalogue(String version, List<Policy> policies) {}
+
     private final PolicyRepository repo;
+    private final EntityManager entityManager;
+    private final ChangeCounterRepository changeCounters;
+    private final Cache policies;
 
-    public PolicyServiceImpl(PolicyRepository repo) {
+    public PolicyServiceImpl(PolicyRepository repo, EntityManager entityManager,
+                             ChangeCounterRepository changeCounters, CacheManager cacheManager) {
         this.repo = repo;
+        this.entityManager = entityManager;
+        this.changeCounters = changeCounters;
+        this.policies = cacheManager.getCache(CacheConfig.POLICIES);
     }
 
     @Override
+    @Caching(
+        evict = @CacheEvict(cacheNames = CacheConfig.POLICIES, allEntries = true),
+        put = @CachePut(cacheNames = CacheConfig.POLICY_BY_ID, key = "#result.id")
+    )
     public Policy createPolicy(Policy policy) {
         return repo.save(policy);
     }
 
+    // the catalogue changes rarely; reads are served from the cache until a write or the TTL evicts it
     @Override
     public List<Policy> getAllPolicies() {
-        return repo.findAll();
+        return catalogue().policies();
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.POLICY_BY_ID, key = "#id", unless = "#result == null")
     public Policy getPolicyById(int id) {
         return repo.findById(id).orElse(null);
     }
 
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.POLICIES, allEntries = true),
+        @CacheEvict(cacheNames = CacheConfig.POLICY_BY_ID, key = "#id")
+    })
     public void deletePolicy(int id) {
         repo.deleteById(id);
     }
-}
 
+    @Override
+    public CursorPage<Policy> getPoliciesPage(int after, int size) {
+        return CursorPage.fetch(size, limit -> repo.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit)), Policy::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllPolicies(Consumer<Policy> sink) {
+        EntityStreams.drain(repo.streamAll(), entityManager, sink);
+    }
+
+    @Override
+    public String getPoliciesVersion() {
+        return catalogue().version();
+    }
+
+    // marker first: a write landing in between leaves an older tag on newer rows, which only costs a refetch
+    private Catalogue catalogue() {
+        return policies.get("all", () -> new Catalogue(
+                changeCounters.versionKey(ChangeCounterRepository.POLICIES), List.copyOf(repo.findAll())));
+    }
+}
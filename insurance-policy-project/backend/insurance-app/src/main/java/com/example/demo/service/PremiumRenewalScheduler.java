@@ -0,0 +1,65 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs {@link PremiumRenewalService} on {@code app.premiums.renewal.cron}, nightly by
+ * default. Set the cron to {@code -} to leave a node out. A run only rewrites schedules
+ * that changed, so two nodes running the same night repeat work but never disagree.
+ */
+@Component
+public class PremiumRenewalScheduler implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PremiumRenewalScheduler.class);
+
+    private final PremiumRenewalService renewalService;
+    private final String cron;
+    private ThreadPoolTaskScheduler scheduler;
+
+    public PremiumRenewalScheduler(PremiumRenewalService renewalService,
+                                   @Value("${app.premiums.renewal.cron:0 30 1 * * *}") String cron) {
+        this.renewalService = renewalService;
+        this.cron = cron;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (ScheduledTaskRegistrar.CRON_DISABLED.equals(cron)) {
+            logger.info("Premium renewal runs disabled on this node");
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("premium-renewal-scheduler-");
+        scheduler.initialize();
+        scheduler.schedule(this::runNightly, new CronTrigger(cron));
+        logger.info("Premium renewal runs scheduled on '{}'", cron);
+    }
+
+    void runNightly() {
+        try {
+            renewalService.run(LocalDate.now());
+        } catch (RuntimeException e) {
+            // nothing is lost: the next run derives every schedule again
+            logger.warn("Premium renewal run failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.repository.PremiumScheduleRepository;
+import com.example.demo.repository.PremiumScheduleRepository.Row;
+import com.example.demo.repository.PremiumScheduleRepository.Update;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Derives each holding's premium schedule: the next unpaid installment and whether it is
+ * CURRENT, DUE (within the notice window or grace period), OVERDUE, LAPSED, PAID_UP or
+ * EXPIRED. Premiums are paid in installments of {@code premiumAmount} every
+ * {@code app.premiums.period-months} from the start date, so the installments covered
+ * are the PAID total from the holding's summary divided by the premium.
+ * <p>
+ * A run splits the id range into one partition per thread. Each partition walks its
+ * range in keyset chunks and writes the rows whose schedule changed as one batched
+ * update per chunk, so a run over millions of holdings holds no long transaction and
+ * rewrites only what moved since the night before.
+ */
+@Service
+public class PremiumRenewalService {
+
+    public static final String CURRENT = "CURRENT";
+    public static final String DUE = "DUE";
+    public static final String OVERDUE = "OVERDUE";
+    public static final String LAPSED = "LAPSED";
+    public static final String PAID_UP = "PAID_UP";
+    public static final String EXPIRED = "EXPIRED";
+
+    private static final Logger logger = LoggerFactory.getLogger(PremiumRenewalService.class);
+
+    /** Outcome of one run; {@code failedPartitions} ranges are left for the next run. */
+    public record Run(long scanned, long updated, int failedPartitions, long elapsedMs, double rowsPerSecond) {}
+
+    private final PremiumScheduleRepository scheduleRepo;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+    private final int threads;
+    private final int chunkSize;
+    private final int periodMonths;
+    private final int dueWindowDays;
+    private final int graceDays;
+    private final int lapseDays;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+    private final Timer runTimer;
+
+    public PremiumRenewalService(PremiumScheduleRepository scheduleRepo,
+                                 TransactionTemplate tx,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.premiums.renewal.threads:4}") int threads,
+                                 @Value("${app.premiums.renewal.chunk-size:1000}") int chunkSize,
+                                 @Value("${app.premiums.period-months:1}") int periodMonths,
+                                 @Value("${app.premiums.due-window-days:15}") int dueWindowDays,
+                                 @Value("${app.premiums.grace-days:30}") int graceDays,
+                                 @Value("${app.premiums.lapse-days:90}") int lapseDays) {
+        this.scheduleRepo = scheduleRepo;
+        this.tx = tx;
+        this.meterRegistry = meterRegistry;
+        this.threads = Math.max(1, threads);
+        this.chunkSize = chunkSize;
+        this.periodMonths = periodMonths;
+        this.dueWindowDays = dueWindowDays;
+        this.graceDays = graceDays;
+        this.lapseDays = lapseDays;
+        this.runTimer = Timer.builder("premium.renewal.duration")
+                .description("Wall time of premium renewal runs")
+                .register(meterRegistry);
+        Gauge.builder("premium.renewal.rows.per.second", lastRowsPerSecond, AtomicLong::get)
+                .description("Holdings scanned per second by the last premium renewal run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Brings every holding's schedule up to date as of {@code today}. Returns null without
+     * doing anything if a run is already in progress on this node.
+     */
+    public Run run(LocalDate today) {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Premium renewal run skipped: the previous run is still going");
+            return null;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            int[] range = scheduleRepo.idRange();
+            LongAdder scanned = new LongAdder();
+            LongAdder updated = new LongAdder();
+            int failed = range == null ? 0 : runPartitions(range[0], range[1], today, scanned, updated);
+
+            long elapsedNanos = System.nanoTime() - startNanos;
+            runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            double rate = seconds > 0 ? Math.round(scanned.sum() / seconds * 10) / 10.0 : 0;
+            lastRowsPerSecond.set(Math.round(rate));
+            Run run = new Run(scanned.sum(), updated.sum(), failed, elapsedNanos / 1_000_000, rate);
+            logger.info("Premium renewal for {}: {} holdings scanned, {} updated, {} failed partitions in {} ms ({} rows/s)",
+                    today, run.scanned(), run.updated(), failed, run.elapsedMs(), rate);
+            return run;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int runPartitions(int minId, int maxId, LocalDate today, LongAdder scanned, LongAdder updated) {
+        long span = (long) maxId - minId + 1;
+        int partitions = (int) Math.min(threads, span);
+        long size = (span + partitions - 1) / partitions;
+        ExecutorService pool = Executors.newFixedThreadPool(partitions,
+                Thread.ofPlatform().name("premium-renewal-", 0).factory());
+        try {
+            List<Future<?>> submitted = new ArrayList<>();
+            for (int p = 0; p < partitions; p++) {
+                int after = (int) (minId - 1 + p * size);
+                int upTo = (int) Math.min(maxId, minId - 1 + (p + 1) * size);
+                submitted.add(pool.submit(() -> walk(after, upTo, today, scanned, updated)));
+            }
+            int failed = 0;
+            for (Future<?> partition : submitted) {
+                try {
+                    partition.get();
+                } catch (ExecutionException e) {
+                    // chunks already written stay written; the rest of the range is redone next run
+                    failed++;
+                    Counter.builder("premium.renewal.partitions.failed")
+                            .description("Premium renewal partitions that stopped on an error")
+                            .register(meterRegistry)
+                            .increment();
+                    logger.warn("Premium renewal partition failed: {}", e.getCause().toString());
+                }
+            }
+            return failed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Premium renewal run interrupted", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // walks (after, upTo] in id order, one chunk and at most one short transaction at a time
+    private void walk(int after, int upTo, LocalDate today, LongAdder scanned, LongAdder updated) {
+        int cursor = after;
+        while (true) {
+            List<Row> rows = scheduleRepo.findChunk(cursor, upTo, chunkSize);
+            if (rows.isEmpty()) return;
+            List<Update> changed = new ArrayList<>();
+            for (Row row : rows) {
+                Update u = schedule(row, today);
+                if (!Objects.equals(u.nextDueDate(), row.nextDueDate())
+                        || !Objects.equals(u.premiumStatus(), row.premiumStatus())) {
+                    changed.add(u);
+                }
+            }
+            if (!changed.isEmpty()) {
+                tx.executeWithoutResult(status -> scheduleRepo.updateAll(changed));
+            }
+            scanned.add(rows.size());
+            updated.add(changed.size());
+            count("scanned", rows.size());
+            count("updated", changed.size());
+            if (rows.size() < chunkSize) return;
+            cursor = rows.getLast().id();
+        }
+    }
+
+    Update schedule(Row row, LocalDate today) {
+        if (row.endDate() != null && row.endDate().isBefore(today)) {
+            return new Update(row.id(), null, EXPIRED);
+        }
+        if (row.startDate() == null || row.premiumAmount() <= 0) {
+            // no premium schedule to derive
+            return new Update(row.id(), null, null);
+        }
+        // the epsilon keeps a sum of doubles like 2999.9999 from counting one installment short
+        long installmentsPaid = (long) Math.floor(row.totalPaid() / row.premiumAmount() + 1e-9);
+        LocalDate nextDue = row.startDate().plusMonths(installmentsPaid * periodMonths);
+        if (row.endDate() != null && !nextDue.isBefore(row.endDate())) {
+            return new Update(row.id(), null, PAID_UP);
+        }
+        String status;
+        if (nextDue.isAfter(today.plusDays(dueWindowDays))) {
+            status = CURRENT;
+        } else if (!today.isAfter(nextDue.plusDays(graceDays))) {
+            status = DUE;
+        } else if (!today.isAfter(nextDue.plusDays(lapseDays))) {
+            status = OVERDUE;
+        } else {
+            status = LAPSED;
+        }
+        return new Update(row.id(), nextDue, status);
+    }
+
+    private void count(String result, long rows) {
+        Counter.builder("premium.renewal.rows")
+                .description("Holdings scanned and updated by premium renewal runs")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+}
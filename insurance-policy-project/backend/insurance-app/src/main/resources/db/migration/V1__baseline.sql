@@ -0,0 +1,94 @@
+-- Schema as previously created by hibernate ddl-auto=update. Existing databases are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+create table app_users (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    role varchar(255) not null,
+    primary key (id),
+    constraint uk_app_users_email unique (email)
+) engine=InnoDB;
+
+create table customer (
+    id integer not null auto_increment,
+    address varchar(255),
+    email varchar(255),
+    first_name varchar(255),
+    last_name varchar(255),
+    phone varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table policies (
+    id integer not null auto_increment,
+    coverage_amount float(53) not null,
+    duration_months integer not null,
+    premium_amount float(53) not null,
+    policy_name varchar(255),
+    policy_type varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table customer_policies (
+    id integer not null auto_increment,
+    customer_id integer,
+    policy_id integer,
+    start_date date,
+    end_date date,
+    premium_amount float(53) not null,
+    status varchar(255),
+    primary key (id),
+    constraint fk_customer_policies_customer foreign key (customer_id) references customer (id),
+    constraint fk_customer_policies_policy foreign key (policy_id) references policies (id)
+) engine=InnoDB;
+
+create table claims (
+    id integer not null auto_increment,
+    customer_policy_id integer,
+    claim_amount float(53) not null,
+    claim_date date,
+    claim_status varchar(255),
+    description varchar(255),
+    primary key (id),
+    constraint fk_claims_customer_policy foreign key (customer_policy_id) references customer_policies (id)
+) engine=InnoDB;
+
+create index idx_claims_customer_policy_id on claims (customer_policy_id);
+
+create table payments (
+    id integer not null auto_increment,
+    customer_policy_id integer,
+    amount float(53) not null,
+    payment_date date,
+    payment_mode varchar(255),
+    payment_status varchar(255),
+    primary key (id),
+    constraint fk_payments_customer_policy foreign key (customer_policy_id) references customer_policies (id)
+) engine=InnoDB;
+
+create index idx_payments_customer_policy_id on payments (customer_policy_id);
+
+create table payment_import_jobs (
+    id integer not null auto_increment,
+    source_name varchar(255),
+    status varchar(255),
+    lines_committed bigint not null,
+    rows_imported bigint not null,
+    rows_rejected bigint not null,
+    started_at datetime(6),
+    updated_at datetime(6),
+    last_error varchar(1000),
+    primary key (id)
+) engine=InnoDB;
+
+create table customer_policy_summary (
+    customer_policy_id integer not null,
+    total_paid float(53) not null,
+    total_claimed float(53) not null,
+    last_payment_date date,
+    open_claim_count integer not null,
+    updated_at datetime(6),
+    primary key (customer_policy_id)
+) engine=InnoDB;
@@ -0,0 +1,15 @@
+-- Secondary indexes for the read paths: assignment lookups by customer/policy,
+-- dashboard aggregates by status and month, and login by email.
+
+create index idx_customer_policies_customer_id on customer_policies (customer_id);
+create index idx_customer_policies_policy_id on customer_policies (policy_id);
+
+-- covering for GROUP BY claim_status with sum/avg(claim_amount)
+create index idx_claims_status_amount on claims (claim_status, claim_amount);
+create index idx_claims_claim_date on claims (claim_date);
+
+create index idx_payments_status_amount on payments (payment_status, amount);
+create index idx_payments_payment_date on payments (payment_date);
+create index idx_payments_mode on payments (payment_mode);
+
+create index idx_customer_email on customer (email);
@@ -0,0 +1,15 @@
+-- Outbox of claims awaiting adjudication. A row is written in the same transaction as
+-- its claim and deleted once a worker has decided the claim. Workers take due rows with
+-- SELECT ... FOR UPDATE SKIP LOCKED, so any number of nodes can drain the queue at once.
+create table claim_adjudication_queue (
+    id bigint not null auto_increment,
+    claim_id integer not null,
+    attempts integer not null,
+    available_at datetime(6) not null,
+    created_at datetime(6) not null,
+    last_error varchar(1000),
+    primary key (id),
+    constraint fk_claim_adjudication_queue_claim foreign key (claim_id) references claims (id) on delete cascade
+) engine=InnoDB;
+
+create index idx_claim_adjudication_queue_available_at on claim_adjudication_queue (available_at, id);
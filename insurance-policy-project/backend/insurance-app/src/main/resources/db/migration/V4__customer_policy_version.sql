@@ -0,0 +1,3 @@
+-- Optimistic version for customer_policies. Every claim transaction force-increments it, so
+-- two claims checked against the same committed coverage total cannot both commit.
+alter table customer_policies add column version bigint not null default 0;
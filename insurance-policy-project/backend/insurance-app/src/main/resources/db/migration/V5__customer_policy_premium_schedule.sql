@@ -0,0 +1,5 @@
+-- Premium schedule derived nightly by PremiumRenewalService: the next unpaid installment
+-- and whether it is CURRENT, DUE, OVERDUE, LAPSED, PAID_UP or EXPIRED. Null until the
+-- first run covers the row.
+alter table customer_policies add column next_due_date date;
+alter table customer_policies add column premium_status varchar(32);
@@ -0,0 +1,16 @@
+-- Responses to POST /payments and POST /claims, stored under the client's Idempotency-Key
+-- in the same transaction as the write, so a retried request is answered from here
+-- instead of being applied twice.
+create table idempotency_keys (
+    scope varchar(64) not null,
+    owner varchar(255) not null,
+    idempotency_key varchar(128) not null,
+    request_hash char(64) not null,
+    response_body text,
+    created_at datetime(6) not null,
+    primary key (scope, owner, idempotency_key)
+) engine=InnoDB;
+
+-- Optimistic versions; the default keeps JDBC batch inserts, which do not set it, valid.
+alter table claims add column version bigint not null default 0;
+alter table payments add column version bigint not null default 0;
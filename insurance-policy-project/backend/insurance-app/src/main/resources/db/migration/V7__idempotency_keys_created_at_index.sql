@@ -0,0 +1,3 @@
+-- IdempotencyKeyPurger deletes keys past their retention by age; without this index
+-- every purge scans the whole table.
+create index idx_idempotency_keys_created_at on idempotency_keys (created_at);
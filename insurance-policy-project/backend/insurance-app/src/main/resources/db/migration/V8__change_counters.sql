@@ -0,0 +1,12 @@
+-- Change markers behind the ETags of the whole-collection GETs (customers, policies,
+-- customer policies, payments, claims). Every
+-- write to a tracked table adds one to a row here in the same transaction, so the sum
+-- of a table's rows moves on each commit that touched it. A table's counter is split
+-- over a few stripes so concurrent writers rarely wait on the same row. Rows appear on
+-- first use. Writes made outside the application must bump their table here too.
+create table change_counters (
+    name varchar(64) not null,
+    stripe int not null,
+    version bigint not null,
+    primary key (name, stripe)
+) engine=InnoDB;
@@ -0,0 +1,37 @@
+package com.example.demo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DataSourcePoolTests {
+
+    @Autowired private DataSource dataSource;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @Test
+    void poolIsSizedFromConfiguration() {
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        assertThat(hikari.getPoolName()).isEqualTo("insurance-pool");
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(20);
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(5000);
+    }
+
+    @Test
+    void poolWaitAndActiveMetricsArePublished() {
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "insurance-pool").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.pending").tag("pool", "insurance-pool").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "insurance-pool").timer()).isNotNull();
+    }
+}
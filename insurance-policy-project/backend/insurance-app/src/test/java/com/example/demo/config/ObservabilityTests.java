@@ -0,0 +1,78 @@
+package com.example.demo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import com.example.demo.security.JwtUtil;
+
+import jakarta.servlet.Filter;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ObservabilityTests {
+
+    @Autowired private WebApplicationContext context;
+    @Autowired @Qualifier("springSecurityFilterChain") private Filter securityFilterChain;
+    @Autowired private JwtUtil jwtUtil;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        // MockMvc skips servlet filters, so add the one that records http.server.requests explicitly
+        Filter observationFilter = context.getBeansOfType(FilterRegistrationBean.class).values().stream()
+                .map(FilterRegistrationBean::getFilter)
+                .filter(ServerHttpObservationFilter.class::isInstance)
+                .findFirst().orElseThrow();
+        mvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(observationFilter, securityFilterChain)
+                .build();
+    }
+
+    @Test
+    void healthAndDatabaseGroupAreAnonymous() throws Exception {
+        mvc.perform(get("/actuator/health")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+        mvc.perform(get("/actuator/health/database")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+    }
+
+    @Test
+    void metricsEndpointsRequireAdmin() throws Exception {
+        String user = "Bearer " + jwtUtil.generateToken("user@example.com", "USER");
+        mvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+        mvc.perform(get("/actuator/metrics").header("Authorization", user)).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheusScrapeCoversRoutesRepositoriesHibernateAndPool() throws Exception {
+        String admin = "Bearer " + jwtUtil.generateToken("admin@example.com", "ADMIN");
+        mvc.perform(get("/policies").header("Authorization", admin)).andExpect(status().isOk());
+
+        String scrape = mvc.perform(get("/actuator/prometheus").header("Authorization", admin))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(scrape)
+                .contains("http_server_requests_seconds_bucket")
+                .contains("uri=\"/policies\"")
+                .contains("spring_data_repository_invocations_seconds_count")
+                .contains("hibernate_statements_total")
+                .contains("hikaricp_connections_active")
+                .contains("cache_gets_total")
+                .contains("jvm_gc_pause_seconds");
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.demo.entity.AppUser;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.JwtUtil;
+import com.jayway.jsonpath.JsonPath;
+
+import jakarta.servlet.Filter;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthFlowTests {
+
+    private static final String SIGNUP = """
+            {"firstName":"Asha","lastName":"Rao","email":"asha@example.com","password":"secret123",
+             "phone":"9876543210","dateOfBirth":"1990-05-01","address":"Bengaluru"}
+            """;
+    private static final String LOGIN = """
+            {"email":"asha@example.com","password":"secret123"}
+            """;
+
+    @Autowired private WebApplicationContext context;
+    @Autowired @Qualifier("springSecurityFilterChain") private Filter securityFilterChain;
+    @Autowired private UserRepository userRepo;
+    @Autowired private JwtUtil jwtUtil;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.webAppContextSetup(context).addFilters(securityFilterChain).build();
+        userRepo.deleteAll();
+    }
+
+    @Test
+    void loginTokenAuthenticatesApiCallsStatelessly() throws Exception {
+        mvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(SIGNUP))
+                .andExpect(status().isOk());
+        mvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(SIGNUP))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Email already registered"));
+
+        String body = mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("USER"))
+                .andReturn().getResponse().getContentAsString();
+        String token = JsonPath.read(body, "$.token");
+
+        mvc.perform(get("/policies").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mvc.perform(get("/policies"))
+                .andExpect(status().isForbidden());
+        mvc.perform(get("/policies").header("Authorization", "Bearer " + token + "x"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void loginUpgradesWeakerHashToConfiguredStrength() throws Exception {
+        AppUser user = new AppUser();
+        user.setName("Asha Rao");
+        user.setEmail("asha@example.com");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret123"));
+        userRepo.save(user);
+
+        mvc.perform(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk());
+
+        assertThat(userRepo.findByEmail("asha@example.com").orElseThrow().getPassword()).startsWith("$2a$10$");
+    }
+
+    @Test
+    void operatorEndpointsAreAdminOnly() throws Exception {
+        String user = "Bearer " + jwtUtil.generateToken("asha@example.com", "USER");
+        String admin = "Bearer " + jwtUtil.generateToken("admin@example.com", "ADMIN");
+
+        mvc.perform(post("/customer-policies/summaries/rebuild").header("Authorization", user))
+                .andExpect(status().isForbidden());
+        mvc.perform(post("/customer-policies/summaries/rebuild").header("Authorization", admin))
+                .andExpect(status().isOk());
+        mvc.perform(post("/claims/history").header("Authorization", user)
+                        .contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isForbidden());
+        mvc.perform(post("/claims/history").header("Authorization", admin)
+                        .contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.demo.dto.ClaimRequest;
+import com.example.demo.entity.Claim;
+import com.example.demo.entity.Customer;
+import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.entity.Payment;
+import com.example.demo.entity.Policy;
+import com.example.demo.repository.ClaimRepository;
+import com.example.demo.repository.CustomerPolicyRepository;
+import com.example.demo.repository.CustomerRepository;
+import com.example.demo.repository.PaymentRepository;
+import com.example.demo.repository.PolicyRepository;
+import com.example.demo.repository.PremiumScheduleRepository;
+import com.example.demo.service.ClaimAdjudicationService;
+import com.example.demo.service.ClaimService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards against N+1 selects: each read endpoint must answer with a fixed number
+ * of statements regardless of how many rows and distinct associations it returns.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EndpointStatementCountTests {
+
+    private static final int CUSTOMER_POLICIES = 12;
+    private static final int ROWS_PER_POLICY = 4;
+
+    @Autowired private WebApplicationContext context;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private CustomerRepository customerRepo;
+    @Autowired private PolicyRepository policyRepo;
+    @Autowired private CustomerPolicyRepository customerPolicyRepo;
+    @Autowired private ClaimRepository claimRepo;
+    @Autowired private PaymentRepository paymentRepo;
+    @Autowired private PremiumScheduleRepository premiumScheduleRepo;
+    @Autowired private ClaimService claimService;
+    @Autowired private ClaimAdjudicationService adjudicationService;
+
+    private MockMvc mvc;
+    private Statistics statistics;
+    private int firstCustomerPolicyId;
+    private int firstCustomerId;
+
+    @BeforeEach
+    void seed() {
+        mvc = MockMvcBuilders.webAppContextSetup(context).build();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        claimRepo.deleteAllInBatch();
+        paymentRepo.deleteAllInBatch();
+        customerPolicyRepo.deleteAllInBatch();
+        customerRepo.deleteAllInBatch();
+        policyRepo.deleteAllInBatch();
+
+        for (int i = 0; i < CUSTOMER_POLICIES; i++) {
+            Customer customer = new Customer();
+            customer.setFirstName("First" + i);
+            customer.setLastName("Last" + i);
+            customer.setEmail("customer" + i + "@example.com");
+            customerRepo.save(customer);
+
+            Policy policy = new Policy();
+            policy.setPolicyName("Policy " + i);
+            policy.setPolicyType(i % 2 == 0 ? "HEALTH" : "MOTOR");
+            policy.setCoverageAmount(100_000);
+            policyRepo.save(policy);
+
+            CustomerPolicy cp = new CustomerPolicy();
+            cp.setCustomer(customer);
+            cp.setPolicy(policy);
+            cp.setStartDate(LocalDate.of(2025, 1, 1));
+            cp.setEndDate(LocalDate.of(2027, 1, 1));
+            cp.setStatus("ACTIVE");
+            customerPolicyRepo.save(cp);
+            if (i == 0) {
+                firstCustomerPolicyId = cp.getId();
+                firstCustomerId = customer.getId();
+            }
+
+            for (int j = 0; j < ROWS_PER_POLICY; j++) {
+                Claim claim = new Claim();
+                claim.setCustomerPolicy(cp);
+                claim.setClaimAmount(1_000 + j);
+                claim.setClaimDate(LocalDate.of(2026, 1, 1 + j));
+                claim.setClaimStatus("PENDING");
+                claimRepo.save(claim);
+
+                Payment payment = new Payment();
+                payment.setCustomerPolicy(cp);
+                payment.setAmount(500 + j);
+                payment.setPaymentDate(LocalDate.of(2026, 1, 1 + j));
+                payment.setPaymentMode("UPI");
+                payment.setPaymentStatus("PAID");
+                paymentRepo.save(payment);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/claims", "/claims/page?size=20", "/payments/page?size=20",
+            "/customer-policies", "/customer-policies/page?size=5"
+    })
+    void listEndpointsUseSingleStatement(String url) throws Exception {
+        statistics.clear();
+        mvc.perform(get(url)).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void conditionalListSkipsRowQueryWhenUnchanged() throws Exception {
+        statistics.clear();
+        String etag = mvc.perform(get("/payments"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andReturn().getResponse().getHeader("ETag");
+        // the row query; the change counter probe is plain JDBC
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        mvc.perform(get("/payments").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Payment payment = new Payment();
+        payment.setCustomerPolicy(customerPolicyRepo.getReferenceById(firstCustomerPolicyId));
+        payment.setAmount(42);
+        payment.setPaymentDate(LocalDate.of(2026, 2, 1));
+        payment.setPaymentStatus("PAID");
+        paymentRepo.save(payment);
+        mvc.perform(get("/payments").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(CUSTOMER_POLICIES * ROWS_PER_POLICY + 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/customers", "/payments", "/claims", "/customer-policies"})
+    void unchangedListIsAnsweredWithoutRowQuery(String url) throws Exception {
+        String etag = tag(url);
+
+        statistics.clear();
+        mvc.perform(get(url).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // holdings are embedded in all but /customers
+        premiumScheduleRepo.updateAll(List.of(
+                new PremiumScheduleRepository.Update(firstCustomerPolicyId, LocalDate.of(2026, 6, 1), "OVERDUE")));
+        mvc.perform(get(url).header("If-None-Match", etag))
+                .andExpect(url.equals("/customers") ? status().isNotModified() : status().isOk());
+    }
+
+    @Test
+    void claimsTagMovesWhenClaimsAreBatchedOrDecided() throws Exception {
+        String etag = tag("/claims");
+
+        ClaimRequest claim = new ClaimRequest();
+        claim.setCustomerPolicyId(firstCustomerPolicyId);
+        claim.setClaimAmount(250);
+        claim.setClaimDate(LocalDate.of(2026, 3, 1));
+        claimService.raiseClaims(List.of(claim));
+        mvc.perform(get("/claims").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(CUSTOMER_POLICIES * ROWS_PER_POLICY + 1));
+        etag = tag("/claims");
+
+        // adjudication changes the status in place
+        while (adjudicationService.processDue() > 0) {
+            // drain
+        }
+        mvc.perform(get("/claims").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[-1].claimStatus").value("APPROVED"));
+    }
+
+    @Test
+    void paymentsTagMovesWhenAnEmbeddedRowIsUpdatedInPlace() throws Exception {
+        String etag = paymentsTag();
+
+        // same id, new name: no row is added or removed
+        mvc.perform(post("/customers").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":" + firstCustomerId + ",\"firstName\":\"Renamed\",\"lastName\":\"Last0\"}"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/payments").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].customerPolicy.customer.firstName").value("Renamed"));
+        etag = paymentsTag();
+
+        // the renewal run writes holdings through JDBC
+        premiumScheduleRepo.updateAll(List.of(
+                new PremiumScheduleRepository.Update(firstCustomerPolicyId, LocalDate.of(2026, 6, 1), "OVERDUE")));
+        mvc.perform(get("/payments").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].customerPolicy.premiumStatus").value("OVERDUE"));
+    }
+
+    @Test
+    void policiesTagIsServedFromTheCatalogueCache() throws Exception {
+        String etag = mvc.perform(get("/policies")).andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        statistics.clear();
+        mvc.perform(get("/policies").header("If-None-Match", etag)).andExpect(status().isNotModified());
+        mvc.perform(get("/policies")).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        mvc.perform(post("/policies").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"policyName\":\"Policy new\",\"policyType\":\"HEALTH\"}"))
+                .andExpect(status().isOk());
+        mvc.perform(get("/policies").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(CUSTOMER_POLICIES + 1));
+    }
+
+    private String paymentsTag() throws Exception {
+        return tag("/payments");
+    }
+
+    private String tag(String url) throws Exception {
+        return mvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse().getHeader("ETag");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/claims/by-customer-policy/", "/payments/by-customer-policy/", "/customer-policies/"})
+    void lookupEndpointsUseSingleStatement(String prefix) throws Exception {
+        statistics.clear();
+        mvc.perform(get(prefix + firstCustomerPolicyId)).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void customerOverviewUsesFixedStatementsWhateverItsHoldings() throws Exception {
+        Customer customer = customerRepo.getReferenceById(firstCustomerId);
+        for (Policy policy : policyRepo.findAll().subList(1, 6)) {
+            CustomerPolicy cp = new CustomerPolicy();
+            cp.setCustomer(customer);
+            cp.setPolicy(policy);
+            cp.setStatus("ACTIVE");
+            customerPolicyRepo.save(cp);
+            Claim claim = new Claim();
+            claim.setCustomerPolicy(cp);
+            claim.setClaimAmount(7_000);
+            claim.setClaimStatus("PENDING");
+            claimRepo.save(claim);
+        }
+
+        statistics.clear();
+        mvc.perform(get("/customers/" + firstCustomerId + "/overview"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customer.email").value("customer0@example.com"))
+                .andExpect(jsonPath("$.policies.length()").value(6))
+                .andExpect(jsonPath("$.policies[0].id").value(firstCustomerPolicyId))
+                .andExpect(jsonPath("$.policies[0].policy.policyName").value("Policy 0"))
+                .andExpect(jsonPath("$.policies[0].claims.length()").value(ROWS_PER_POLICY))
+                .andExpect(jsonPath("$.policies[0].payments.length()").value(ROWS_PER_POLICY))
+                .andExpect(jsonPath("$.policies[5].claims[0].claimAmount").value(7_000))
+                .andExpect(jsonPath("$.policies[5].payments.length()").value(0));
+        // customer, holdings with policies, claims, payments
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/claims/export", "/payments/export", "/customer-policies/export"})
+    void exportEndpointsUseSingleStatement(String url) throws Exception {
+        statistics.clear();
+        MvcResult started = mvc.perform(get(url)).andExpect(request().asyncStarted()).andReturn();
+        mvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void claimStatsAreAggregatedInTheDatabase() throws Exception {
+        statistics.clear();
+        mvc.perform(get("/claims/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overall.count").value(CUSTOMER_POLICIES * ROWS_PER_POLICY))
+                .andExpect(jsonPath("$.overall.total").value(CUSTOMER_POLICIES * (1_000 + 1_001 + 1_002 + 1_003)))
+                .andExpect(jsonPath("$.groups.status[0].key").value("PENDING"))
+                .andExpect(jsonPath("$.groups.policyType.length()").value(2))
+                .andExpect(jsonPath("$.groups.policyType[0].count").value(CUSTOMER_POLICIES / 2 * ROWS_PER_POLICY))
+                .andExpect(jsonPath("$.groups.month[0].key").value("2026-01"));
+        // one statement per grouping, never one per row
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void paymentStatsAreAggregatedInTheDatabase() throws Exception {
+        statistics.clear();
+        mvc.perform(get("/payments/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.overall.total").value(CUSTOMER_POLICIES * (500 + 501 + 502 + 503)))
+                .andExpect(jsonPath("$.overall.average").value(501.5))
+                .andExpect(jsonPath("$.groups.status[0].key").value("PAID"))
+                .andExpect(jsonPath("$.groups.mode[0].key").value("UPI"))
+                .andExpect(jsonPath("$.groups.policyType[1].key").value("MOTOR"))
+                .andExpect(jsonPath("$.groups.month[0].count").value(CUSTOMER_POLICIES * ROWS_PER_POLICY));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.entity.Customer;
+import com.example.demo.entity.CustomerPolicy;
+import com.example.demo.entity.Policy;
+import com.example.demo.repository.ClaimRepository;
+import com.example.demo.repository.IdempotencyKeyRepository;
+import com.example.demo.repository.CustomerPolicyRepository;
+import com.example.demo.repository.CustomerRepository;
+import com.example.demo.repository.PaymentRepository;
+import com.example.demo.repository.PolicyRepository;
+import com.example.demo.service.IdempotencyKeyPurger;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IdempotencyKeyTests {
+
+    @Autowired private WebApplicationContext context;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private CustomerRepository customerRepo;
+    @Autowired private PolicyRepository policyRepo;
+    @Autowired private CustomerPolicyRepository customerPolicyRepo;
+    @Autowired private PaymentRepository paymentRepo;
+    @Autowired private ClaimRepository claimRepo;
+    @Autowired private IdempotencyKeyRepository keyRepo;
+    @Autowired private IdempotencyKeyPurger purger;
+
+    private MockMvc mvc;
+    private int cpId;
+
+    @BeforeEach
+    void seed() {
+        mvc = MockMvcBuilders.webAppContextSetup(context).build();
+        Customer customer = new Customer();
+        customer.setFirstName("Idempotent");
+        customer.setLastName("Customer");
+        customerRepo.save(customer);
+        Policy policy = new Policy();
+        policy.setPolicyName("Idempotent Policy");
+        policy.setPolicyType("MOTOR");
+        policy.setCoverageAmount(10_000);
+        policyRepo.save(policy);
+        CustomerPolicy cp = new CustomerPolicy();
+        cp.setCustomer(customer);
+        cp.setPolicy(policy);
+        cp.setStartDate(LocalDate.of(2026, 1, 1));
+        cp.setEndDate(LocalDate.of(2026, 12, 31));
+        cp.setStatus("ACTIVE");
+        cpId = customerPolicyRepo.save(cp).getId();
+    }
+
+    @Test
+    void retriedPaymentIsAnsweredWithTheOriginalResponse() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String first = pay(key, 250).andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn().getResponse().getContentAsString();
+
+        String replay = pay(key, 250).andExpect(status().isOk())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(replay).isEqualTo(first);
+
+        // after the cache forgets it, the stored row still answers
+        cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS).clear();
+        assertThat(pay(key, 250).andExpect(status().isOk()).andReturn().getResponse().getContentAsString())
+                .isEqualTo(first);
+
+        pay(key, 999).andExpect(status().isBadRequest());
+        assertThat(paymentRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).hasSize(1);
+
+        // without a key every request is a new payment, as before
+        mvc.perform(post("/payments").contentType(MediaType.APPLICATION_JSON).content(paymentJson(250)))
+                .andExpect(status().isOk());
+        assertThat(paymentRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).hasSize(2);
+    }
+
+    @Test
+    void nonPositivePaymentIsABadRequestAndLeavesTheKeyFree() throws Exception {
+        String key = UUID.randomUUID().toString();
+        pay(key, -250).andExpect(status().isBadRequest());
+        mvc.perform(post("/payments").contentType(MediaType.APPLICATION_JSON).content(paymentJson(0)))
+                .andExpect(status().isBadRequest());
+        assertThat(paymentRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).isEmpty();
+
+        // nothing was recorded against the key, so the corrected request goes through
+        pay(key, 250).andExpect(status().isOk()).andExpect(header().doesNotExist("Idempotent-Replayed"));
+    }
+
+    @Test
+    void retriedClaimIsRaisedOnce() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = "{\"customerPolicyId\":" + cpId + ",\"claimAmount\":400,\"claimDate\":\"2026-03-01\"}";
+        String first = mvc.perform(post("/claims").header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        String replay = mvc.perform(post("/claims").header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        assertThat(replay).isEqualTo(first);
+        assertThat(claimRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).hasSize(1);
+        assertThat(customerPolicyRepo.findById(cpId).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRetriesWithOneKeyPayOnce() throws Exception {
+        String key = UUID.randomUUID().toString();
+        ExecutorService clients = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<MvcResult>> sent = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                sent.add(clients.submit(() -> pay(key, 100).andReturn()));
+            }
+            for (Future<MvcResult> f : sent) {
+                // every retry either gets the payment or is told to retry, never a second payment
+                assertThat(f.get(30, TimeUnit.SECONDS).getResponse().getStatus()).isIn(200, 409);
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        assertThat(paymentRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).hasSize(1);
+    }
+
+    @Test
+    void keysArePurgedOnceTheirRetentionHasPassed() throws Exception {
+        String key = UUID.randomUUID().toString();
+        pay(key, 75).andExpect(status().isOk());
+
+        purger.purge(LocalDateTime.now());
+        assertThat(keyRepo.find("POST /payments", "", key)).isNotNull();
+
+        // a day and a bit later the key is gone, and reusing it is a new request
+        assertThat(purger.purge(LocalDateTime.now().plusHours(25))).isPositive();
+        assertThat(keyRepo.find("POST /payments", "", key)).isNull();
+        cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS).clear();
+        pay(key, 75).andExpect(status().isOk()).andExpect(header().doesNotExist("Idempotent-Replayed"));
+        assertThat(paymentRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).hasSize(2);
+    }
+
+    private ResultActions pay(String key, double amount) throws Exception {
+        return mvc.perform(post("/payments").header("Idempotency-Key", key)
+                .contentType(MediaType.APPLICATION_JSON).content(paymentJson(amount)));
+    }
+
+    private String paymentJson(double amount) {
+        return "{\"customerPolicyId\":" + cpId + ",\"amount\":" + amount
+                + ",\"paymentDate\":\"2026-02-01\",\"paymentMode\":\"UPI\",\"paymentStatus\":\"PAID\"}";
+    }
+}
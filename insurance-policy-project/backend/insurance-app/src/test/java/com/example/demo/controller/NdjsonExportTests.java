@@ -0,0 +1,63 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.demo.entity.Policy;
+import com.example.demo.repository.PolicyRepository;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NdjsonExportTests {
+
+    @Autowired private WebApplicationContext context;
+    @Autowired private PolicyRepository policyRepo;
+    @Autowired private JsonMapper jsonMapper;
+
+    @Test
+    void exportWritesOneJsonObjectPerLineInIdOrder() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            Policy policy = new Policy();
+            policy.setPolicyName("Export Policy " + i);
+            policy.setPolicyType("TRAVEL");
+            policyRepo.save(policy);
+        }
+        MockMvc mvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        MvcResult started = mvc.perform(get("/policies/export")).andExpect(request().asyncStarted()).andReturn();
+        String body = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize((int) policyRepo.count());
+        int previousId = 0;
+        for (String line : lines) {
+            JsonNode row = jsonMapper.readTree(line);
+            assertThat(row.isObject()).isTrue();
+            assertThat(row.get("id").asInt()).isGreaterThan(previousId);
+            previousId = row.get("id").asInt();
+        }
+        assertThat(lines).anyMatch(line -> line.contains("\"policyName\":\"Export Policy 2\""));
+    }
+}
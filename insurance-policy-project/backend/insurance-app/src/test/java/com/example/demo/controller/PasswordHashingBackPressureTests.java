@@ -0,0 +1,155 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.demo.exception.TooManyRequestsException;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.security.PasswordHasher;
+
+// one hashing thread and one queue slot, so two stuck hashes saturate the pool
+@SpringBootTest(properties = {
+        "app.security.hashing.threads=1",
+        "app.security.hashing.queueCapacity=1",
+        "app.security.hashing.timeoutMs=1000"})
+@ActiveProfiles("test")
+class PasswordHashingBackPressureTests {
+
+    private static final String SIGNUP = """
+            {"firstName":"Ravi","lastName":"Iyer","email":"ravi@example.com","password":"secret123",
+             "phone":"9876500000","dateOfBirth":"1988-02-11","address":"Chennai"}
+            """;
+
+    /** Hashes hold until released, standing in for a slow bcrypt under load. */
+    static final class GatedEncoder implements PasswordEncoder {
+        private final PasswordEncoder delegate = new BCryptPasswordEncoder(4);
+        private final Semaphore entered = new Semaphore(0);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        void hold() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void awaitEntered() throws InterruptedException {
+            assertThat(entered.tryAcquire(5, TimeUnit.SECONDS)).as("a hash started").isTrue();
+        }
+
+        private void pass() {
+            entered.release();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("hash cancelled", e);
+            }
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            pass();
+            return delegate.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            pass();
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+    }
+
+    @TestConfiguration
+    static class GatedEncoderConfig {
+        @Bean
+        @Primary
+        GatedEncoder gatedEncoder() {
+            return new GatedEncoder();
+        }
+    }
+
+    @Autowired private WebApplicationContext context;
+    @Autowired private GatedEncoder encoder;
+    @Autowired private PasswordHasher hasher;
+    @Autowired private UserRepository userRepo;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        mvc = MockMvcBuilders.webAppContextSetup(context).build();
+        userRepo.deleteAll();
+        encoder.entered.drainPermits();
+        encoder.hold();
+    }
+
+    @AfterEach
+    void release() {
+        encoder.release();
+    }
+
+    @Test
+    void hashThatTimesOutIsAnsweredWithRetryAfter() throws Exception {
+        signup().andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+
+        encoder.release();
+        signup().andExpect(status().isOk());
+    }
+
+    @Test
+    void fullHashingQueueIsRejectedWithoutWaiting() throws Exception {
+        // one hash occupies the only thread, a second takes the only queue slot
+        CompletableFuture<?> running = CompletableFuture.runAsync(this::hashQuietly);
+        encoder.awaitEntered();
+        CompletableFuture<?> queued = CompletableFuture.runAsync(this::hashQuietly);
+        Thread.sleep(100);
+
+        long started = System.nanoTime();
+        signup().andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+        // turned away at submission, not after waiting out the hashing timeout
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+
+        encoder.release();
+        CompletableFuture.allOf(running, queued).get(5, TimeUnit.SECONDS);
+    }
+
+    private void hashQuietly() {
+        try {
+            hasher.encode("secret123");
+        } catch (TooManyRequestsException e) {
+            // expected when the gate outlives the timeout
+        }
+    }
+
+    private ResultActions signup() throws Exception {
+        return mvc.perform(post("/api/auth/signup").contentType(MediaType.APPLICATION_JSON).content(SIGNUP));
+    }
+}
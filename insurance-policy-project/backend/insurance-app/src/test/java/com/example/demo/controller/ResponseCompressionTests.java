@@ -0,0 +1,62 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.entity.Customer;
+import com.example.demo.repository.CustomerRepository;
+import com.example.demo.security.JwtUtil;
+
+/**
+ * Runs against the real connector, since MockMvc bypasses Tomcat's compression.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ResponseCompressionTests {
+
+    @LocalServerPort private int port;
+    @Autowired private JwtUtil jwtUtil;
+    @Autowired private CustomerRepository customerRepo;
+
+    @Test
+    void largeListsAreGzippedAndRevalidateWithTheirETag() throws Exception {
+        for (int i = 0; i < 40; i++) {
+            Customer customer = new Customer();
+            customer.setFirstName("Gzip" + i);
+            customer.setLastName("Customer" + i);
+            customer.setEmail("gzip" + i + "@example.com");
+            customerRepo.save(customer);
+        }
+        HttpClient client = HttpClient.newHttpClient();
+        String token = "Bearer " + jwtUtil.generateToken("gzip@example.com", "USER");
+        URI uri = URI.create("http://localhost:" + port + "/customers");
+
+        HttpResponse<byte[]> first = client.send(HttpRequest.newBuilder(uri)
+                .header("Authorization", token).header("Accept-Encoding", "gzip").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(first.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        String json = new String(new GZIPInputStream(new ByteArrayInputStream(first.body())).readAllBytes());
+        assertThat(json).contains("gzip39@example.com");
+
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+        HttpResponse<byte[]> second = client.send(HttpRequest.newBuilder(uri)
+                .header("Authorization", token).header("Accept-Encoding", "gzip")
+                .header("If-None-Match", etag).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(second.statusCode()).isEqualTo(304);
+        assertThat(second.body()).isEmpty();
+    }
+}
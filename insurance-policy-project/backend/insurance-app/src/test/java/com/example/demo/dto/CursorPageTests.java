@@ -0,0 +1,49 @@
+package com.example.demo.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class CursorPageTests {
+
+    @Test
+    void sizeIsClampedToDefaultAndMaximum() {
+        assertThat(CursorPage.clampSize(0)).isEqualTo(CursorPage.DEFAULT_SIZE);
+        assertThat(CursorPage.clampSize(-5)).isEqualTo(CursorPage.DEFAULT_SIZE);
+        assertThat(CursorPage.clampSize(20)).isEqualTo(20);
+        assertThat(CursorPage.clampSize(10_000)).isEqualTo(CursorPage.MAX_SIZE);
+    }
+
+    @Test
+    void extraRowBecomesTheCursorAndIsDropped() {
+        CursorPage<Integer> page = CursorPage.of(List.of(3, 5, 8, 13), 3, id -> id);
+        assertThat(page.getItems()).containsExactly(3, 5, 8);
+        assertThat(page.getNextCursor()).isEqualTo(8);
+
+        CursorPage<Integer> last = CursorPage.of(List.of(21, 34), 3, id -> id);
+        assertThat(last.getItems()).containsExactly(21, 34);
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void walkingCursorsVisitsEveryRowOnce() {
+        List<Integer> table = IntStream.rangeClosed(1, 23).map(i -> i * 2).boxed().toList();
+        List<Integer> seen = new ArrayList<>();
+        Integer after = 0;
+        int pages = 0;
+        while (after != null) {
+            int from = after;
+            CursorPage<Integer> page = CursorPage.fetch(5,
+                    limit -> table.stream().filter(id -> id > from).limit(limit).toList(), id -> id);
+            seen.addAll(page.getItems());
+            after = page.getNextCursor();
+            pages++;
+        }
+        assertThat(seen).isEqualTo(table);
+        assertThat(pages).isEqualTo(5);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+class JwtUtilTests {
+
+    private static final String SECRET = "MySuperSecretKeyForJwtDontUseShortKey1234567890";
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-06-01T10:00:00Z"));
+    private final JwtUtil jwt = new JwtUtil(SECRET, 60_000, 100, clock);
+
+    @Test
+    void cachedTokenStopsVerifyingAtItsExpiry() {
+        String token = jwt.generateToken("cache@example.com", "USER");
+        assertThat(jwt.parse(token)).isNotNull();
+
+        clock.advance(Duration.ofSeconds(59));
+        assertThat(jwt.parse(token).getSubject()).isEqualTo("cache@example.com");
+
+        // the cache entry expires on the same clock the parser checks exp against
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(jwt.parse(token)).isNull();
+    }
+
+    @Test
+    void tamperedTokensAreRejectedEvenAfterTheOriginalWasCached() {
+        String token = jwt.generateToken("tamper@example.com", "USER");
+        assertThat(jwt.parse(token)).isNotNull();
+
+        String[] parts = token.split("\\.");
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                "{\"sub\":\"tamper@example.com\",\"role\":\"ADMIN\",\"exp\":4102444800}".getBytes(StandardCharsets.UTF_8));
+        assertThat(jwt.parse(parts[0] + "." + forgedPayload + "." + parts[2])).isNull();
+
+        char last = parts[2].charAt(0);
+        String badSignature = (last == 'A' ? 'B' : 'A') + parts[2].substring(1);
+        assertThat(jwt.parse(parts[0] + "." + parts[1] + "." + badSignature)).isNull();
+
+        assertThat(jwt.parse(token).getRole()).isEqualTo("USER");
+    }
+
+    @Test
+    void sizeZeroVerifiesEveryCall() {
+        JwtUtil uncached = new JwtUtil(SECRET, 60_000, 0, clock);
+        String token = uncached.generateToken("nocache@example.com", "USER");
+
+        VerifiedToken first = uncached.parse(token);
+        VerifiedToken second = uncached.parse(token);
+        assertThat(second).isNotNull().isNotSameAs(first);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration by) {
+            now = now.plus(by);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
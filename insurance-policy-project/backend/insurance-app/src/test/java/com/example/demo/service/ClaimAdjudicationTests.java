@@ -0,0 +1,176 @@
+package com.example.demo.service;
+
+import static com.example.demo.service.Fixtures.claim;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.dto.ClaimBatchResult;
+import com.example.demo.dto.ClaimRequest;
+import com.example.demo.dto.ClaimResponse;
+import com.example.demo.entity.ClaimAdjudicationTask;
+import com.example.demo.entity.CustomerPolicySummary;
+import com.example.demo.entity.Policy;
+import com.example.demo.repository.ClaimAdjudicationTaskRepository;
+import com.example.demo.repository.ClaimRepository;
+import com.example.demo.repository.CustomerPolicyRepository;
+import com.example.demo.repository.PolicyRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ClaimAdjudicationTests {
+
+    @Autowired private Fixtures fixtures;
+    @Autowired private ClaimService claimService;
+    @Autowired private ClaimAdjudicationService adjudicationService;
+    @Autowired private CustomerPolicySummaryService summaryService;
+    @Autowired private ClaimAdjudicationTaskRepository taskRepo;
+    @Autowired private ClaimRepository claimRepo;
+    @Autowired private CustomerPolicyRepository customerPolicyRepo;
+    @Autowired private PolicyRepository policyRepo;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void queuedClaimsAreDecidedAgainstCoverageAndPolicyWindow() {
+        int cpId = fixtures.holding(1_000);
+
+        ClaimResponse approved = claimService.raiseClaim(claim(cpId, 600, LocalDate.of(2026, 3, 1), "PENDING"));
+        ClaimResponse outsideWindow = claimService.raiseClaim(claim(cpId, 50, LocalDate.of(2027, 2, 1), null));
+        List<ClaimBatchResult> batch = claimService.raiseClaims(List.of(claim(cpId, 300, LocalDate.of(2026, 5, 1), null)));
+        List<ClaimBatchResult> migrated = claimService.importClaimHistory(List.of(
+                claim(cpId, 50, LocalDate.of(2026, 5, 2), "APPROVED")));
+        // the open claims already hold the whole coverage, so intake refuses the next one
+        assertThatThrownBy(() -> claimService.raiseClaim(claim(cpId, 500, LocalDate.of(2026, 4, 1), "PENDING")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // intake only queues; nothing is decided until a worker polls
+        assertThat(outsideWindow.getClaimStatus()).isEqualTo("PENDING");
+        assertThat(queuedClaimIds()).contains(approved.getId(), outsideWindow.getId(), batch.get(0).getClaimId());
+        assertThat(queuedClaimIds()).doesNotContain(migrated.get(0).getClaimId());
+        assertThat(summaryService.getSummary(cpId).getOpenClaimCount()).isEqualTo(3);
+
+        // coverage cut after intake: adjudication still checks against what the policy covers now
+        setCoverage(cpId, 900);
+        while (adjudicationService.processDue() > 0) {
+            // drain
+        }
+
+        assertThat(status(approved.getId())).isEqualTo("APPROVED");
+        assertThat(status(outsideWindow.getId())).isEqualTo("REJECTED");
+        // 600 + 50 already approved + 300 no longer fits the 900 coverage
+        assertThat(status(batch.get(0).getClaimId())).isEqualTo("REJECTED");
+        assertThat(queuedClaimIds()).isEmpty();
+
+        CustomerPolicySummary s = summaryService.getSummary(cpId);
+        assertThat(s.getOpenClaimCount()).isZero();
+        assertThat(s.getTotalClaimed()).isEqualTo(650);
+    }
+
+    @Test
+    void concurrentWorkersTakeDisjointBatchesAndNeverOverrunCoverage() throws Exception {
+        int cpId = fixtures.holding(4_000);
+        List<ClaimRequest> claims = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            claims.add(claim(cpId, 100, LocalDate.of(2026, 6, 1), null));
+        }
+        List<Integer> ids = claimService.raiseClaims(claims).stream().map(ClaimBatchResult::getClaimId).toList();
+        setCoverage(cpId, 1_000);
+
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> drained = new ArrayList<>();
+            for (int w = 0; w < 4; w++) {
+                drained.add(workers.submit(() -> {
+                    int handled = 0;
+                    for (int n; (n = adjudicationService.processDue()) > 0; ) handled += n;
+                    return handled;
+                }));
+            }
+            for (Future<Integer> f : drained) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        Map<String, Long> outcomes = ids.stream()
+                .collect(Collectors.groupingBy(this::status, Collectors.counting()));
+        assertThat(outcomes).containsEntry("APPROVED", 10L).containsEntry("REJECTED", 30L);
+        assertThat(queuedClaimIds()).doesNotContainAnyElementsOf(ids);
+        assertThat(summaryService.getSummary(cpId).getTotalClaimed()).isEqualTo(1_000);
+    }
+
+    @Test
+    void statusSentWithANewClaimIsIgnored() {
+        int cpId = fixtures.holding(1_000);
+
+        ClaimResponse single = claimService.raiseClaim(claim(cpId, 100, LocalDate.of(2026, 3, 1), "APPROVED"));
+        List<ClaimBatchResult> batch = claimService.raiseClaims(List.of(
+                claim(cpId, 100, LocalDate.of(2026, 3, 2), "APPROVED"),
+                claim(cpId, 100, LocalDate.of(2026, 3, 3), "REJECTED")));
+        List<ClaimBatchResult> migrated = claimService.importClaimHistory(List.of(
+                claim(cpId, 100, LocalDate.of(2026, 3, 4), null),
+                claim(cpId, 100, LocalDate.of(2026, 3, 5), "SETTLED")));
+
+        assertThat(single.getClaimStatus()).isEqualTo("PENDING");
+        assertThat(status(batch.get(0).getClaimId())).isEqualTo("PENDING");
+        assertThat(status(batch.get(1).getClaimId())).isEqualTo("PENDING");
+        assertThat(queuedClaimIds()).contains(single.getId(), batch.get(0).getClaimId(), batch.get(1).getClaimId());
+        // history rows must say how they were decided
+        assertThat(migrated).extracting(ClaimBatchResult::getStatus)
+                .containsOnly(ClaimBatchResult.REJECTED);
+    }
+
+    @Test
+    void aClaimThatFailsOnCommitIsChargedToItsOwnTask() {
+        while (adjudicationService.processDue() > 0) {
+            // start from an empty queue so both tasks land in one batch
+        }
+        int cpId = fixtures.holding(1_000);
+        ClaimResponse failing = claimService.raiseClaim(claim(cpId, 100, LocalDate.of(2026, 3, 1), null));
+        ClaimResponse fine = claimService.raiseClaim(claim(cpId, 100, LocalDate.of(2026, 3, 2), null));
+        // the decision for the first claim is only refused when its update is flushed at commit
+        jdbcTemplate.execute("alter table claims add constraint claim_stuck check (id <> " + failing.getId()
+                + " or claim_status = 'PENDING')");
+        try {
+            assertThat(adjudicationService.processDue()).isEqualTo(2);
+        } finally {
+            jdbcTemplate.execute("alter table claims drop constraint claim_stuck");
+        }
+
+        assertThat(status(failing.getId())).isEqualTo("PENDING");
+        assertThat(status(fine.getId())).isEqualTo("APPROVED");
+        List<ClaimAdjudicationTask> left = taskRepo.findAll();
+        assertThat(left).extracting(ClaimAdjudicationTask::getClaimId).containsExactly(failing.getId());
+        assertThat(left.getFirst().getAttempts()).isEqualTo(1);
+        assertThat(left.getFirst().getLastError()).contains("claim_stuck");
+        taskRepo.deleteAll(left);
+    }
+
+    private void setCoverage(int cpId, double coverage) {
+        Policy policy = customerPolicyRepo.findWithDetailsById(cpId).orElseThrow().getPolicy();
+        policy.setCoverageAmount(coverage);
+        policyRepo.save(policy);
+    }
+
+    private List<Integer> queuedClaimIds() {
+        return taskRepo.findAll().stream().map(t -> t.getClaimId()).toList();
+    }
+
+    private String status(int claimId) {
+        return claimRepo.findById(claimId).orElseThrow().getClaimStatus();
+    }
+}
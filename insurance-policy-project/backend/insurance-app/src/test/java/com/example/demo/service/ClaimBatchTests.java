@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import static com.example.demo.service.Fixtures.claim;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.dto.ClaimBatchResult;
+import com.example.demo.dto.ClaimRequest;
+import com.example.demo.repository.ClaimRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ClaimBatchTests {
+
+    private static final LocalDate CLAIM_DATE = LocalDate.of(2026, 3, 1);
+
+    @Autowired private Fixtures fixtures;
+    @Autowired private ClaimService claimService;
+    @Autowired private ClaimRepository claimRepo;
+
+    @Test
+    void insertsValidRowsAndReportsRejectedOnesByIndex() {
+        int cpId = fixtures.holding(0);
+
+        List<ClaimRequest> rows = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            rows.add(claim(cpId, 100 + i, CLAIM_DATE, "PENDING"));
+        }
+        rows.add(claim(cpId + 10_000, 50, CLAIM_DATE, "PENDING"));
+        rows.add(claim(cpId, -5, CLAIM_DATE, "PENDING"));
+
+        List<ClaimBatchResult> results = claimService.raiseClaims(rows);
+
+        assertThat(results).hasSize(1_202);
+        assertThat(results.subList(0, 1_200)).allMatch(r -> ClaimBatchResult.CREATED.equals(r.getStatus()));
+        assertThat(results.get(1_200).getError()).startsWith("Unknown customerPolicyId");
+        assertThat(results.get(1_201).getError()).isEqualTo("claimAmount must be positive");
+        assertThat(claimRepo.findById(results.get(1_199).getClaimId()))
+                .hasValueSatisfying(c -> assertThat(c.getClaimAmount()).isEqualTo(1_299));
+        assertThat(claimRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).hasSize(1_200);
+    }
+
+    @Test
+    void intakeLeavesTheCallersRequestsUntouched() {
+        int cpId = fixtures.holding(0);
+        ClaimRequest sent = claim(cpId, 100, CLAIM_DATE, "PENDING");
+        sent.setClaimStatus("APPROVED");
+
+        List<ClaimBatchResult> results = claimService.raiseClaims(List.of(sent));
+
+        // stored as PENDING, but the request still says what the client sent
+        assertThat(claimRepo.findById(results.get(0).getClaimId()))
+                .hasValueSatisfying(c -> assertThat(c.getClaimStatus()).isEqualTo("PENDING"));
+        assertThat(sent.getClaimStatus()).isEqualTo("APPROVED");
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.demo.service;
+
+import static com.example.demo.service.Fixtures.claim;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.dto.ClaimBatchResult;
+import com.example.demo.dto.ClaimRequest;
+import com.example.demo.repository.ClaimRepository;
+import com.example.demo.repository.CustomerPolicyRepository;
+import com.example.demo.repository.CustomerPolicySummaryRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CoverageLimitTests {
+
+    private static final LocalDate CLAIM_DATE = LocalDate.of(2026, 6, 1);
+
+    @Autowired private Fixtures fixtures;
+    @Autowired private ClaimService claimService;
+    @Autowired private ClaimAdjudicationService adjudicationService;
+    @Autowired private CoverageLedger ledger;
+    @Autowired private ClaimRepository claimRepo;
+    @Autowired private CustomerPolicyRepository customerPolicyRepo;
+    @Autowired private CustomerPolicySummaryRepository summaryRepo;
+    @Autowired private TransactionTemplate tx;
+    @Autowired private EntityManager entityManager;
+
+    @Test
+    void claimsBeyondTheRemainingCoverageAreRefusedAtIntake() {
+        int cpId = fixtures.holding(1_000);
+        long version = customerPolicyRepo.findById(cpId).orElseThrow().getVersion();
+
+        claimService.raiseClaim(claim(cpId, 700, CLAIM_DATE, "PENDING"));
+        claimService.importClaimHistory(List.of(claim(cpId, 5_000, CLAIM_DATE, "REJECTED")));
+        assertThatThrownBy(() -> claimService.raiseClaim(claim(cpId, 301, CLAIM_DATE, "PENDING")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("exceeds the remaining coverage");
+        List<ClaimBatchResult> batch = claimService.raiseClaims(List.of(claim(cpId, 200, CLAIM_DATE, null),
+                claim(cpId, 200, CLAIM_DATE, null), claim(cpId, 100, CLAIM_DATE, null)));
+
+        assertThat(batch.get(0).getStatus()).isEqualTo(ClaimBatchResult.CREATED);
+        assertThat(batch.get(1).getError()).isEqualTo("claimAmount exceeds the remaining coverage");
+        assertThat(batch.get(2).getStatus()).isEqualTo(ClaimBatchResult.CREATED);
+        assertThat(ledger.claimed(cpId)).isEqualTo(1_000);
+        assertThat(claimRepo.sumClaimedByCustomerPolicyId(cpId)).isEqualTo(1_000);
+        // one version per committed claim transaction; the refused one rolled back
+        assertThat(customerPolicyRepo.findById(cpId).orElseThrow().getVersion()).isEqualTo(version + 3);
+    }
+
+    @Test
+    void nonPositiveClaimsCannotHandCoverageBack() {
+        int cpId = fixtures.holding(1_000);
+        claimService.raiseClaim(claim(cpId, 900, CLAIM_DATE, "PENDING"));
+
+        assertThatThrownBy(() -> claimService.raiseClaim(claim(cpId, -1_000_000, CLAIM_DATE, "PENDING")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("claimAmount must be positive");
+        assertThatThrownBy(() -> claimService.raiseClaim(claim(cpId, 0, CLAIM_DATE, "PENDING")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(ledger.claimed(cpId)).isEqualTo(900);
+        assertThat(claimRepo.sumClaimedByCustomerPolicyId(cpId)).isEqualTo(900);
+        assertThatThrownBy(() -> claimService.raiseClaim(claim(cpId, 200, CLAIM_DATE, "PENDING")))
+                .hasMessageContaining("exceeds the remaining coverage");
+    }
+
+    @Test
+    void rejectedClaimsReleaseTheirCoverage() {
+        int cpId = fixtures.holding(1_000);
+        ClaimRequest outsideWindow = claim(cpId, 800, CLAIM_DATE, "PENDING");
+        outsideWindow.setClaimDate(LocalDate.of(2030, 1, 1));
+        claimService.raiseClaim(outsideWindow);
+        assertThatThrownBy(() -> claimService.raiseClaim(claim(cpId, 900, CLAIM_DATE, "PENDING")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        while (adjudicationService.processDue() > 0) {
+            // drain
+        }
+
+        assertThat(claimService.raiseClaim(claim(cpId, 900, CLAIM_DATE, "PENDING"))).isNotNull();
+    }
+
+    @Test
+    void aNewerPolicyVersionFromAnotherNodeReloadsTheTotal() {
+        int cpId = fixtures.holding(1_000);
+        claimService.raiseClaim(claim(cpId, 400, CLAIM_DATE, "PENDING"));
+
+        // another node commits a 500 claim: its summary delta and version bump land, our ledger is stale
+        tx.executeWithoutResult(status -> {
+            entityManager.lock(customerPolicyRepo.findById(cpId).orElseThrow(), LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            summaryRepo.applyDelta(cpId, 0, 500, null, 1);
+        });
+
+        assertThatThrownBy(() -> claimService.raiseClaim(claim(cpId, 200, CLAIM_DATE, "PENDING")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(ledger.claimed(cpId)).isEqualTo(900);
+    }
+
+    @Test
+    void concurrentClaimsOnOnePolicyNeverExceedItsCoverage() throws Exception {
+        int cpId = fixtures.holding(1_000);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                calls.add(clients.submit(() -> claimService.raiseClaim(claim(cpId, 100, CLAIM_DATE, "PENDING"))));
+            }
+            for (Future<?> call : calls) {
+                try {
+                    call.get(30, TimeUnit.SECONDS);
+                } catch (java.util.concurrent.ExecutionException e) {
+                    // refused for coverage, or lost the optimistic race three times
+                    assertThat(e.getCause()).isInstanceOfAny(IllegalArgumentException.class,
+                            OptimisticLockingFailureException.class);
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        double committed = claimRepo.sumClaimedByCustomerPolicyId(cpId);
+        assertThat(committed).isLessThanOrEqualTo(1_000).isPositive();
+        assertThat(ledger.claimed(cpId)).isEqualTo(committed);
+    }
+}
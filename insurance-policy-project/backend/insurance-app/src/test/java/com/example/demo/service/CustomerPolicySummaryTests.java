@@ -0,0 +1,78 @@
+package com.example.demo.service;
+
+import static com.example.demo.service.Fixtures.claim;
+import static com.example.demo.service.Fixtures.payment;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.entity.CustomerPolicySummary;
+import com.example.demo.repository.CustomerPolicySummaryRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomerPolicySummaryTests {
+
+    private static final LocalDate CLAIM_DATE = LocalDate.of(2026, 5, 1);
+
+    @Autowired private Fixtures fixtures;
+    @Autowired private PaymentService paymentService;
+    @Autowired private ClaimService claimService;
+    @Autowired private PaymentImportService paymentImportService;
+    @Autowired private CustomerPolicySummaryService summaryService;
+    @Autowired private CustomerPolicySummaryRepository summaryRepo;
+
+    @Test
+    void summaryTracksPaymentsAndClaimsAndMatchesARebuild() {
+        int cpId = fixtures.holding(0);
+        assertThat(summaryService.getSummary(cpId).getTotalPaid()).isZero();
+
+        paymentService.makePayment(payment(cpId, 1_000, LocalDate.of(2026, 2, 1), "PAID"));
+        paymentService.makePayment(payment(cpId, 1_000, LocalDate.of(2026, 3, 1), "PAID"));
+        paymentService.makePayment(payment(cpId, 999, LocalDate.of(2026, 4, 1), "FAILED"));
+        paymentImportService.importCsv(new ByteArrayInputStream(
+                (cpId + ",500,2026-01-15,UPI,PAID\n").getBytes(StandardCharsets.UTF_8)), "summary.csv", null);
+
+        claimService.raiseClaim(claim(cpId, 300, CLAIM_DATE, "PENDING"));
+        claimService.importClaimHistory(List.of(claim(cpId, 700, CLAIM_DATE, "REJECTED"),
+                claim(cpId, 200, CLAIM_DATE, "UNDER_REVIEW"), claim(cpId, 100, CLAIM_DATE, "APPROVED")));
+
+        CustomerPolicySummary s = summaryService.getSummary(cpId);
+        assertThat(s.getTotalPaid()).isEqualTo(2_500);
+        assertThat(s.getLastPaymentDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+        assertThat(s.getTotalClaimed()).isEqualTo(600);
+        assertThat(s.getOpenClaimCount()).isEqualTo(2);
+
+        summaryRepo.deleteAll();
+        summaryService.rebuild();
+
+        CustomerPolicySummary rebuilt = summaryService.getSummary(cpId);
+        assertThat(rebuilt.getTotalPaid()).isEqualTo(s.getTotalPaid());
+        assertThat(rebuilt.getLastPaymentDate()).isEqualTo(s.getLastPaymentDate());
+        assertThat(rebuilt.getTotalClaimed()).isEqualTo(s.getTotalClaimed());
+        assertThat(rebuilt.getOpenClaimCount()).isEqualTo(s.getOpenClaimCount());
+    }
+
+    @Test
+    void nonPositivePaymentsAreRefusedAndLeaveThePaidTotalAlone() {
+        int cpId = fixtures.holding(0);
+        paymentService.makePayment(payment(cpId, 1_000, LocalDate.of(2026, 2, 1), "PAID"));
+
+        assertThatThrownBy(() -> paymentService.makePayment(payment(cpId, -5_000, LocalDate.of(2026, 3, 1), "PAID")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("amount must be a positive number but was -5000.0");
+        assertThatThrownBy(() -> paymentService.makePayment(payment(cpId, 0, LocalDate.of(2026, 3, 1), "PAID")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(summaryService.getSummary(cpId).getTotalPaid()).isEqualTo(1_000);
+    }
+}
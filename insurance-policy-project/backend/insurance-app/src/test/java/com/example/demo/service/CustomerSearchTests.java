@@ -0,0 +1,112 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.entity.Customer;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomerSearchTests {
+
+    @Autowired private CustomerService customerService;
+    @Autowired private CustomerSearchIndex searchIndex;
+    @Autowired private CustomerSearchIndexLoader indexLoader;
+
+    @Test
+    void matchesByPrefixTypoEmailAndPhone() {
+        Customer priya = customerService.createCustomer(customer("Priyanka", "Venkataraman", "priyanka.v@insureco.in", "98450 12345"));
+        Customer rahul = customerService.createCustomer(customer("Rahul", "Venkatesh", "rahul.venk@mailbox.org", "9123456780"));
+
+        assertThat(ids(customerService.searchCustomers("priy", 10))).contains(priya.getId());
+        assertThat(ids(customerService.searchCustomers("Venkataramn", 10))).contains(priya.getId());
+        assertThat(ids(customerService.searchCustomers("venkat", 10))).contains(priya.getId(), rahul.getId());
+        assertThat(ids(customerService.searchCustomers("rahul venk", 10))).first().isEqualTo(rahul.getId());
+        assertThat(ids(customerService.searchCustomers("priyanka.v@insu", 10))).first().isEqualTo(priya.getId());
+        assertThat(ids(customerService.searchCustomers("9845012", 10))).containsExactly(priya.getId());
+    }
+
+    @Test
+    void deletedCustomersDropOutOfResults() {
+        Customer zubin = customerService.createCustomer(customer("Zubin", "Irani", "zubin@example.com", "9000011111"));
+        assertThat(ids(customerService.searchCustomers("zubin", 10))).containsExactly(zubin.getId());
+
+        customerService.deleteCustomer(zubin.getId());
+        assertThat(customerService.searchCustomers("zubin", 10)).isEmpty();
+    }
+
+    @Test
+    void rebuildSwapsInWholeAndKeepsUpdatesMadeWhileItRan() throws Exception {
+        Customer ingrid = customerService.createCustomer(customer("Ingrid", "Lindqvist", "ingrid@example.com", "9011122233"));
+        Customer other = customerService.createCustomer(customer("Tomas", "Berglund", "tomas@example.com", "9011122244"));
+        CountDownLatch halfway = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        // the rebuild reads Tomas, pauses, then reads Ingrid
+        Iterable<List<Customer>> batches = () -> new Iterator<>() {
+            private int batch = 0;
+
+            @Override
+            public boolean hasNext() {
+                return batch < 2;
+            }
+
+            @Override
+            public List<Customer> next() {
+                if (batch++ == 0) return List.of(other);
+                halfway.countDown();
+                await(proceed);
+                return List.of(customerService.getCustomerById(ingrid.getId()));
+            }
+        };
+
+        try {
+            CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() -> searchIndex.rebuild(batches));
+            await(halfway);
+            ingrid.setPhone("9011199999");
+            customerService.createCustomer(ingrid);
+            Customer astrid = customerService.createCustomer(customer("Astrid", "Lindqvist", "astrid@example.com", "9011122255"));
+
+            // searches still see the contents from before the rebuild
+            assertThat(searchIndex.search("lindqvist", 10)).containsExactly(ingrid.getId());
+
+            proceed.countDown();
+            rebuild.get(30, TimeUnit.SECONDS);
+            assertThat(searchIndex.search("lindqvist", 10)).containsExactlyInAnyOrder(ingrid.getId(), astrid.getId());
+            assertThat(searchIndex.search("9011199", 10)).containsExactly(ingrid.getId());
+        } finally {
+            proceed.countDown();
+            indexLoader.reload();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Integer> ids(List<Customer> customers) {
+        return customers.stream().map(Customer::getId).toList();
+    }
+
+    private static Customer customer(String first, String last, String email, String phone) {
+        Customer c = new Customer();
+        c.setFirstName(first);
+        c.setLastName(last);
+        c.setEmail(email);
+        c.setPhone(phone);
+        return c;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.dto.AssignPolicyRequest;
+import com.example.demo.dto.ClaimRequest;
+import com.example.demo.dto.PaymentRequest;
+import com.example.demo.entity.Customer;
+import com.example.demo.entity.Policy;
+import com.example.demo.repository.CustomerRepository;
+import com.example.demo.repository.PolicyRepository;
+
+/**
+ * Test data shared by the service tests: a fresh customer holding a fresh policy, and
+ * request builders. The test context picks it up by component scan. Every call creates
+ * new rows, so tests sharing the database never see each other's holdings.
+ */
+@Component
+public class Fixtures {
+
+    public static final LocalDate YEAR_START = LocalDate.of(2026, 1, 1);
+    public static final LocalDate YEAR_END = LocalDate.of(2026, 12, 31);
+
+    private final CustomerRepository customerRepo;
+    private final PolicyRepository policyRepo;
+    private final CustomerPolicyService customerPolicyService;
+
+    public Fixtures(CustomerRepository customerRepo, PolicyRepository policyRepo,
+                    CustomerPolicyService customerPolicyService) {
+        this.customerRepo = customerRepo;
+        this.policyRepo = policyRepo;
+        this.customerPolicyService = customerPolicyService;
+    }
+
+    /** An ACTIVE holding for 2026 with a premium of 1000; a coverage of 0 is not enforced. */
+    public int holding(double coverage) {
+        return holding(coverage, YEAR_START, YEAR_END);
+    }
+
+    public int holding(double coverage, LocalDate startDate, LocalDate endDate) {
+        Customer customer = new Customer();
+        customer.setFirstName("Fixture");
+        customer.setLastName("Customer");
+        customer = customerRepo.save(customer);
+        Policy policy = new Policy();
+        policy.setPolicyName("Fixture Policy");
+        policy.setPolicyType("HEALTH");
+        policy.setCoverageAmount(coverage);
+        policy = policyRepo.save(policy);
+
+        AssignPolicyRequest r = new AssignPolicyRequest();
+        r.setCustomerId(customer.getId());
+        r.setPolicyId(policy.getId());
+        r.setStartDate(startDate);
+        r.setEndDate(endDate);
+        r.setStatus("ACTIVE");
+        r.setPremiumAmount(1_000);
+        return customerPolicyService.assignPolicy(r).getId();
+    }
+
+    public static ClaimRequest claim(int customerPolicyId, double amount, LocalDate date, String status) {
+        ClaimRequest c = new ClaimRequest();
+        c.setCustomerPolicyId(customerPolicyId);
+        c.setClaimAmount(amount);
+        c.setClaimDate(date);
+        c.setClaimStatus(status);
+        return c;
+    }
+
+    public static PaymentRequest payment(int customerPolicyId, double amount, LocalDate date, String status) {
+        PaymentRequest p = new PaymentRequest();
+        p.setCustomerPolicyId(customerPolicyId);
+        p.setAmount(amount);
+        p.setPaymentDate(date);
+        p.setPaymentMode("CARD");
+        p.setPaymentStatus(status);
+        return p;
+    }
+}
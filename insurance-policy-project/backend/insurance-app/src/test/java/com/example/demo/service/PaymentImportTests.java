@@ -0,0 +1,158 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.dto.PaymentImportResult;
+import com.example.demo.entity.PaymentImportJob;
+import com.example.demo.exception.ConflictException;
+import com.example.demo.repository.PaymentImportJobRepository;
+import com.example.demo.repository.PaymentRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PaymentImportTests {
+
+    @Autowired private Fixtures fixtures;
+    @Autowired private PaymentImportService importService;
+    @Autowired private PaymentRepository paymentRepo;
+    @Autowired private PaymentImportJobRepository jobRepo;
+
+    @Test
+    void importsValidLinesAndReportsRejectedOnes() {
+        int cpId = fixtures.holding(0);
+        StringBuilder csv = new StringBuilder("customerPolicyId,amount,paymentDate,paymentMode,paymentStatus\n");
+        for (int i = 0; i < 1_500; i++) {
+            csv.append(cpId).append(",").append(100 + i).append(",2026-04-01,UPI,PAID\n");
+        }
+        csv.append(cpId + 10_000).append(",10,2026-04-01,UPI,PAID\n");
+        csv.append(cpId).append(",abc,2026-04-01,UPI,PAID\n");
+        csv.append(cpId).append(",0,2026-04-01,UPI,PAID\n");
+        csv.append(cpId).append(",-25,2026-04-01,UPI,PAID\n");
+        csv.append(cpId).append(",NaN,2026-04-01,UPI,PAID\n");
+
+        PaymentImportResult result = importService.importCsv(stream(csv.toString()), "test.csv", null);
+
+        assertThat(result.getStatus()).isEqualTo(PaymentImportJob.COMPLETED);
+        assertThat(result.getLinesCommitted()).isEqualTo(1_505);
+        assertThat(result.getRowsImported()).isEqualTo(1_500);
+        assertThat(result.getRejections()).containsExactly(
+                "line 1501: unknown customerPolicyId " + (cpId + 10_000),
+                "line 1502: For input string: \"abc\"",
+                "line 1503: amount must be a positive number but was 0",
+                "line 1504: amount must be a positive number but was -25",
+                "line 1505: amount must be a positive number but was NaN");
+        assertThat(paymentRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).hasSize(1_500);
+    }
+
+    @Test
+    void resumesAfterTheLastCommittedChunk() {
+        int cpId = fixtures.holding(0);
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 2_500; i++) {
+            csv.append(cpId).append(",").append(i + 1).append(",2026-04-01,CARD,PAID\n");
+        }
+        byte[] bytes = csv.toString().getBytes(StandardCharsets.UTF_8);
+
+        PaymentImportResult failed = importService.importCsv(failingAfter(bytes, bytes.length * 3 / 5), "big.csv", null);
+        assertThat(failed.getStatus()).isEqualTo(PaymentImportJob.FAILED);
+        assertThat(failed.getLinesCommitted()).isEqualTo(1_000);
+
+        PaymentImportResult resumed = importService.importCsv(new ByteArrayInputStream(bytes), "big.csv", failed.getJobId());
+        assertThat(resumed.getStatus()).isEqualTo(PaymentImportJob.COMPLETED);
+        assertThat(resumed.getRowsImported()).isEqualTo(2_500);
+        assertThat(paymentRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).hasSize(2_500);
+    }
+
+    @Test
+    void concurrentResumesOfOneJobWriteEachLineOnce() throws Exception {
+        int cpId = fixtures.holding(0);
+        byte[] bytes = lines(cpId, 5_000);
+        PaymentImportResult failed = importService.importCsv(failingAfter(bytes, bytes.length / 3), "race.csv", null);
+        assertThat(failed.getStatus()).isEqualTo(PaymentImportJob.FAILED);
+
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<PaymentImportResult>> resumes = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                resumes.add(clients.submit(() ->
+                        importService.importCsv(new ByteArrayInputStream(bytes), "race.csv", failed.getJobId())));
+            }
+            for (Future<PaymentImportResult> resume : resumes) {
+                try {
+                    assertThat(resume.get(60, TimeUnit.SECONDS).getStatus()).isEqualTo(PaymentImportJob.COMPLETED);
+                } catch (ExecutionException e) {
+                    // lost the claim to another resume
+                    assertThat(e.getCause()).isInstanceOf(ConflictException.class);
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        assertThat(importService.getJob(failed.getJobId()).getRowsImported()).isEqualTo(5_000);
+        assertThat(paymentRepo.findByCustomerPolicyIdOrderByIdAsc(cpId)).hasSize(5_000);
+    }
+
+    @Test
+    void resumeOfAJobStillRunningElsewhereIsRefused() {
+        PaymentImportJob job = new PaymentImportJob();
+        job.setSourceName("live.csv");
+        job.setStatus(PaymentImportJob.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        job.setUpdatedAt(job.getStartedAt());
+        int jobId = jobRepo.save(job).getId();
+
+        assertThatThrownBy(() -> importService.importCsv(stream(""), "live.csv", jobId))
+                .isInstanceOf(ConflictException.class);
+
+        // a run that stopped reporting progress long ago is taken over
+        job = jobRepo.findById(jobId).orElseThrow();
+        job.setUpdatedAt(LocalDateTime.now().minusHours(1));
+        jobRepo.save(job);
+        assertThat(importService.importCsv(stream(""), "live.csv", jobId).getStatus())
+                .isEqualTo(PaymentImportJob.COMPLETED);
+    }
+
+    private static byte[] lines(int cpId, int count) {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            csv.append(cpId).append(",").append(i + 1).append(",2026-04-01,CARD,PAID\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream stream(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InputStream failingAfter(byte[] bytes, int limit) {
+        return new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                if (pos >= limit) {
+                    throw new RuntimeException(new IOException("connection reset"));
+                }
+                return super.read(b, off, Math.min(len, limit - pos));
+            }
+        };
+    }
+}
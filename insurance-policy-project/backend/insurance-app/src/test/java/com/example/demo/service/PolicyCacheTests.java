@@ -0,0 +1,62 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.entity.Policy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PolicyCacheTests {
+
+    @Autowired private PolicyService policyService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void catalogueReadsAreServedFromCacheUntilAWrite() {
+        policyService.getAllPolicies();
+        statistics.clear();
+        policyService.getAllPolicies();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        Policy policy = new Policy();
+        policy.setPolicyName("Cached Health");
+        policy.setPolicyType("HEALTH");
+        Policy saved = policyService.createPolicy(policy);
+
+        assertThat(policyService.getAllPolicies()).extracting(Policy::getId).contains(saved.getId());
+        statistics.clear();
+        assertThat(policyService.getPolicyById(saved.getId())).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        policyService.deletePolicy(saved.getId());
+        assertThat(policyService.getPolicyById(saved.getId())).isNull();
+        assertThat(policyService.getAllPolicies()).extracting(Policy::getId).doesNotContain(saved.getId());
+    }
+
+    @Test
+    void cacheHitsAndMissesAreExportedAsMetrics() {
+        policyService.getAllPolicies();
+        policyService.getAllPolicies();
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "policies").tag("result", "hit").functionCounter())
+                .isNotNull();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.service;
+
+import static com.example.demo.service.Fixtures.payment;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.demo.dto.CustomerPolicyResponse;
+import com.example.demo.repository.CustomerPolicyRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// small chunks and several partitions so a handful of rows still crosses chunk boundaries
+@SpringBootTest(properties = {"app.premiums.renewal.chunk-size=3", "app.premiums.renewal.threads=3"})
+@ActiveProfiles("test")
+class PremiumRenewalTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 10);
+
+    @Autowired private Fixtures fixtures;
+    @Autowired private PremiumRenewalService renewalService;
+    @Autowired private CustomerPolicyService customerPolicyService;
+    @Autowired private PaymentService paymentService;
+    @Autowired private CustomerPolicyRepository customerPolicyRepo;
+    @Autowired private MeterRegistry meterRegistry;
+
+    @Test
+    void runDerivesDueStatesFromPaymentsAndOnlyRewritesWhatChanged() {
+        LocalDate end = LocalDate.of(2026, 12, 31);
+        // monthly installments of 1000 from 1 January
+        int due = holding(end, 5_000);          // June installment unpaid, inside the grace period
+        int current = holding(end, 6_000);      // paid through June, July is past the notice window
+        int overdue = holding(end, 3_000);      // April unpaid for more than 30 days
+        int lapsed = holding(end, 0);           // nothing paid in over 90 days
+        int paidUp = holding(end, 12_000);
+        int expired = holding(LocalDate.of(2026, 5, 31), 0);
+        paymentService.makePayment(payment(current, 1_000, Fixtures.YEAR_START, "FAILED"));
+        long versionBefore = customerPolicyRepo.findById(due).orElseThrow().getVersion();
+
+        PremiumRenewalService.Run first = renewalService.run(TODAY);
+
+        assertThat(first.failedPartitions()).isZero();
+        assertThat(first.scanned()).isGreaterThanOrEqualTo(6);
+        assertSchedule(due, "DUE", LocalDate.of(2026, 6, 1));
+        assertSchedule(current, "CURRENT", LocalDate.of(2026, 7, 1));
+        assertSchedule(overdue, "OVERDUE", LocalDate.of(2026, 4, 1));
+        assertSchedule(lapsed, "LAPSED", LocalDate.of(2026, 1, 1));
+        assertSchedule(paidUp, "PAID_UP", null);
+        assertSchedule(expired, "EXPIRED", null);
+        // the run writes around the entity, so claims on the holding see no version change
+        assertThat(customerPolicyRepo.findById(due).orElseThrow().getVersion()).isEqualTo(versionBefore);
+
+        // nothing moved, nothing is rewritten
+        assertThat(renewalService.run(TODAY).updated()).isZero();
+
+        paymentService.makePayment(payment(due, 1_000, Fixtures.YEAR_START, "PAID"));
+        PremiumRenewalService.Run third = renewalService.run(TODAY);
+        assertThat(third.updated()).isEqualTo(1);
+        assertSchedule(due, "CURRENT", LocalDate.of(2026, 7, 1));
+
+        assertThat(meterRegistry.get("premium.renewal.rows").tag("result", "scanned").counter().count())
+                .isGreaterThanOrEqualTo(first.scanned() * 3);
+        assertThat(meterRegistry.get("premium.renewal.duration").timer().count()).isGreaterThanOrEqualTo(3);
+    }
+
+    private void assertSchedule(int cpId, String status, LocalDate nextDueDate) {
+        CustomerPolicyResponse cp = customerPolicyService.getById(cpId);
+        assertThat(cp.getPremiumStatus()).as("status of %d", cpId).isEqualTo(status);
+        assertThat(cp.getNextDueDate()).as("next due date of %d", cpId).isEqualTo(nextDueDate);
+    }
+
+    private int holding(LocalDate endDate, double paid) {
+        int cpId = fixtures.holding(0, Fixtures.YEAR_START, endDate);
+        if (paid > 0) {
+            paymentService.makePayment(payment(cpId, paid, Fixtures.YEAR_START, "PAID"));
+        }
+        return cpId;
+    }
+}